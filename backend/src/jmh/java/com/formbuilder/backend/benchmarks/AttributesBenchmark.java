@@ -0,0 +1,80 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.ComponentAttributes;
+import com.formbuilder.backend.models.Form;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of component attributes per GET of a 1,000-component form as the attribute blobs grow.
+ * <ul>
+ *     <li>{@code serializeForm}: the GET itself, which writes the stored JSON text through as is</li>
+ *     <li>{@code serializeFormReparsingAttributes}: the GET plus a full parse of every attribute blob,
+ *     which is what every consumer reading a property like {@code required} used to pay</li>
+ *     <li>{@code readRequiredThroughTypedView}: reading {@code required} through
+ *     {@link ComponentAttributes} on freshly loaded components (decoded once per component)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributesBenchmark {
+
+    private static final int COMPONENT_COUNT = 1000;
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int attributeBytes;
+
+    private ObjectMapper objectMapper;
+    private Form form;
+    private List<Component> components;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        form = SyntheticForms.buildWithIds(COMPONENT_COUNT, 1, attributeBytes);
+        components = SyntheticForms.allComponents(form);
+    }
+
+    @Benchmark
+    public byte[] serializeForm() throws Exception {
+        return objectMapper.writeValueAsBytes(form);
+    }
+
+    @Benchmark
+    public byte[] serializeFormReparsingAttributes(Blackhole blackhole) throws Exception {
+        for (Component component : components) {
+            JsonNode attributes = objectMapper.readTree(component.getAttributes());
+            blackhole.consume(attributes.path("required").asBoolean());
+        }
+        return objectMapper.writeValueAsBytes(form);
+    }
+
+    @Benchmark
+    public void readRequiredThroughTypedView(Blackhole blackhole) {
+        for (Component component : components) {
+            // A new view per component, as entities are loaded fresh for every request
+            blackhole.consume(new ComponentAttributes(component.getAttributes()).isRequired());
+        }
+    }
+}
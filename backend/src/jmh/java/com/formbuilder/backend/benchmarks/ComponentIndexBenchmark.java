@@ -0,0 +1,139 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hot lookups by page, parent and form on a migrated schema holding {@code componentCount}
+ * components, with the order_index indexes from the migrations ({@code orderIndexes=true}) and
+ * with only the foreign key indexes ({@code false}). The query plans are printed during setup.
+ * <p>
+ * Rows are generated with set-based INSERTs: {@value #FORMS} forms of {@value #PAGES_PER_FORM}
+ * pages, each page holding {@value #ROOTS_PER_PAGE} root panels and the remaining components
+ * spread evenly as their children.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentIndexBenchmark {
+
+    static final int FORMS = 1_000;
+    static final int PAGES_PER_FORM = 10;
+    static final int ROOTS_PER_PAGE = 20;
+
+    private static final List<String> ORDER_INDEXES = List.of(
+            "idx_pages_form_order", "idx_components_page_order", "idx_components_parent_order",
+            "idx_components_page_parent_order");
+
+    @Param({"1000000"})
+    private int componentCount;
+
+    @Param({"true", "false"})
+    private boolean orderIndexes;
+
+    private ConfigurableApplicationContext context;
+    private ComponentRepository componentRepository;
+    private PageRepository pageRepository;
+    private int pageCount;
+    private int rootCount;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-index-" + componentCount + "-" + orderIndexes + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        componentRepository = context.getBean(ComponentRepository.class);
+        pageRepository = context.getBean(PageRepository.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        pageCount = FORMS * PAGES_PER_FORM;
+        rootCount = pageCount * ROOTS_PER_PAGE;
+        int childrenPerRoot = Math.max(0, componentCount - rootCount) / rootCount;
+        jdbc.update("UPDATE components SET parent_component_id = NULL");
+        jdbc.update("DELETE FROM components");
+        jdbc.update("DELETE FROM pages");
+        jdbc.update("DELETE FROM forms");
+        jdbc.update("INSERT INTO forms (id, name, version) SELECT x, 'Form ' || x, 0 FROM SYSTEM_RANGE(1, ?)", FORMS);
+        jdbc.update("INSERT INTO pages (id, name, order_index, form_id) "
+                + "SELECT x, 'Page', MOD(x - 1, ?), (x - 1) / ? + 1 FROM SYSTEM_RANGE(1, ?)",
+                PAGES_PER_FORM, PAGES_PER_FORM, pageCount);
+        jdbc.update("INSERT INTO components (id, component_type, label, order_index, path, depth, attributes, page_id) "
+                + "SELECT x, 'PANEL', 'Panel', MOD(x - 1, ?), '/', 0, '{}', (x - 1) / ? + 1 FROM SYSTEM_RANGE(1, ?)",
+                ROOTS_PER_PAGE, ROOTS_PER_PAGE, rootCount);
+        if (childrenPerRoot > 0) {
+            // Child n (0-based) belongs to root n / childrenPerRoot + 1 and shares its page
+            jdbc.update("INSERT INTO components (id, component_type, label, order_index, path, depth, attributes, page_id, parent_component_id) "
+                    + "SELECT ? + n, 'TEXT_INPUT', 'Input', MOD(n, ?), '/' || (n / ? + 1) || '/', 1, '{}', "
+                    + "(n / ?) / ? + 1, n / ? + 1 FROM (SELECT x - 1 AS n FROM SYSTEM_RANGE(1, ?))",
+                    rootCount + 1, childrenPerRoot, childrenPerRoot, childrenPerRoot, ROOTS_PER_PAGE, childrenPerRoot,
+                    rootCount * childrenPerRoot);
+        }
+        if (!orderIndexes) {
+            ORDER_INDEXES.forEach(index -> jdbc.execute("DROP INDEX " + index));
+        }
+        jdbc.execute("ANALYZE");
+
+        printPlan(jdbc, "SELECT * FROM components WHERE page_id = 1 AND parent_component_id IS NULL");
+        printPlan(jdbc, "SELECT * FROM components WHERE page_id = 1 AND parent_component_id IS NULL ORDER BY order_index");
+        printPlan(jdbc, "SELECT * FROM components WHERE parent_component_id = 1 ORDER BY order_index");
+        printPlan(jdbc, "SELECT * FROM pages WHERE form_id = 1 ORDER BY order_index");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Component> findRootComponentsOfPage() {
+        return componentRepository.findByPageIdAndParentComponentIsNull(randomId(pageCount));
+    }
+
+    @Benchmark
+    public List<Component> findChildComponents() {
+        return componentRepository.findByParentComponentId(randomId(rootCount));
+    }
+
+    @Benchmark
+    public List<Page> findPagesOfForm() {
+        return pageRepository.findByFormId(randomId(FORMS));
+    }
+
+    private static long randomId(int count) {
+        return ThreadLocalRandom.current().nextInt(count) + 1;
+    }
+
+    private void printPlan(JdbcTemplate jdbc, String sql) {
+        String plan = jdbc.queryForObject("EXPLAIN " + sql, String.class);
+        System.out.println("[orderIndexes=" + orderIndexes + "] " + plan.replaceAll("\\s+", " "));
+    }
+}
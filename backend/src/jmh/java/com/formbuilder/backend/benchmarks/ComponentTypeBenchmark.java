@@ -0,0 +1,110 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polymorphic loads of a page's root components when they use {@code typeCount} different
+ * component types (cycling through {@link ComponentTypes#names()}). With the single-table layout
+ * the cost should not depend on typeCount; setup prints the statements per load and the plan of
+ * the table query to show that no other table is read.
+ * <p>
+ * The second-level cache is disabled, so every invocation reads the database and instantiates
+ * the subclasses from the rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComponentTypeBenchmark {
+
+    @Param({"1", "8", "22"})
+    private int typeCount;
+
+    @Param({"500"})
+    private int componentCount;
+
+    private ConfigurableApplicationContext context;
+    private ComponentRepository componentRepository;
+    private PageRepository pageRepository;
+    private Long pageId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-types-" + typeCount + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN")
+                .run();
+        componentRepository = context.getBean(ComponentRepository.class);
+        pageRepository = context.getBean(PageRepository.class);
+
+        List<String> types = ComponentTypes.names().subList(0, typeCount);
+        Form form = new Form("Types", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        for (int i = 0; i < componentCount; i++) {
+            Component component = ComponentTypes.newComponent(types.get(i % typeCount), "Component " + i, "{}");
+            component.setOrderIndex(i);
+            page.addComponent(component);
+        }
+        context.getBean(FormRepository.class).save(form);
+        pageId = page.getId();
+
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        findRootComponentsOfPage();
+        String plan = context.getBean(JdbcTemplate.class).queryForObject(
+                "EXPLAIN SELECT * FROM components WHERE page_id = " + pageId + " AND parent_component_id IS NULL", String.class);
+        System.out.println("[typeCount=" + typeCount + "] " + statistics.getPrepareStatementCount()
+                + " statement(s) per load; " + plan.replaceAll("\\s+", " "));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Component> findRootComponentsOfPage() {
+        return componentRepository.findByPageIdAndParentComponentIsNull(pageId);
+    }
+
+    @Benchmark
+    public Page findTreeById() {
+        return pageRepository.findTreeById(pageId).orElseThrow();
+    }
+}
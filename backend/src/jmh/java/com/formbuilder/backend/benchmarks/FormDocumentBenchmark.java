@@ -0,0 +1,87 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering a form from its stored document versus loading and serializing its tree, and the cost
+ * of writing the document after a change (what {@link FormDocumentProjector} does in the background).
+ * The second-level cache is disabled so that the tree load always reads the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormDocumentBenchmark {
+
+    @Param({"100", "5000"})
+    private int componentCount;
+
+    private ConfigurableApplicationContext context;
+    private FormRepository formRepository;
+    private FormDocumentRepository formDocumentRepository;
+    private FormDocumentProjector formDocumentProjector;
+    private ObjectMapper objectMapper;
+    private Long formId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-documents-" + componentCount + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "logging.level.root=WARN")
+                .run();
+        formRepository = context.getBean(FormRepository.class);
+        formDocumentRepository = context.getBean(FormDocumentRepository.class);
+        formDocumentProjector = context.getBean(FormDocumentProjector.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        formId = formRepository.save(SyntheticForms.build(componentCount, 4, 100)).getId();
+        formDocumentProjector.project(formId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] renderFromDocument() {
+        return formDocumentRepository.findSnapshotByFormId(formId).orElseThrow().json();
+    }
+
+    @Benchmark
+    public byte[] loadAndSerializeTree() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(formRepository.findTreeById(formId).orElseThrow());
+    }
+
+    @Benchmark
+    public FormSnapshot projectDocument() {
+        return formDocumentProjector.project(formId).orElseThrow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormSummary;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads through the real repositories against an in-memory H2 database, with the application
+ * context booted once per trial (no web server).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormRepositoryLoadBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int componentCount;
+
+    @Param({"1", "8"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private FormRepository formRepository;
+    private Long formId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + componentCount + "-" + depth + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        formRepository = context.getBean(FormRepository.class);
+        formId = formRepository.save(SyntheticForms.build(componentCount, depth, 100)).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Form findTreeById() {
+        return formRepository.findTreeById(formId).orElseThrow();
+    }
+
+    @Benchmark
+    public List<FormSummary> findSummaries() {
+        return formRepository.findSummaries(0L, null, PageRequest.ofSize(50));
+    }
+}
@@ -0,0 +1,54 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Form;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a whole form tree, as done for GET /api/forms/{formId} on a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int componentCount;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"100"})
+    private int attributeBytes;
+
+    private ObjectMapper objectMapper;
+    private Form form;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        form = SyntheticForms.buildWithIds(componentCount, depth, attributeBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeForm() throws Exception {
+        return objectMapper.writeValueAsBytes(form);
+    }
+}
@@ -0,0 +1,72 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.repositories.FormTreeAssembler;
+import jakarta.persistence.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory assembly of a form tree from flat rows ({@link FormTreeAssembler}), i.e. the part of
+ * {@code findTreeById} that runs after the queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormTreeBuildBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int componentCount;
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    private Tuple formRow;
+    private List<Tuple> pageRows;
+    private List<Tuple> componentRows;
+
+    @Setup
+    public void setUp() {
+        Form form = SyntheticForms.buildWithIds(componentCount, depth, 100);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", form.getId());
+        row.put("name", form.getName());
+        row.put("description", form.getDescription());
+        row.put("lastModified", null);
+        row.put("version", 0L);
+        formRow = new MapTuple(row);
+        pageRows = SyntheticForms.pageRows(form);
+        componentRows = SyntheticForms.componentRows(form);
+    }
+
+    @Benchmark
+    public Form buildTree() {
+        Form form = FormTreeAssembler.toForm(formRow);
+        Map<Long, Page> pagesById = new LinkedHashMap<>();
+        for (Tuple row : pageRows) {
+            Page page = FormTreeAssembler.toPage(row);
+            form.addPage(page);
+            pagesById.put(page.getId(), page);
+        }
+        FormTreeAssembler.attachComponents(componentRows, pagesById);
+        return form;
+    }
+}
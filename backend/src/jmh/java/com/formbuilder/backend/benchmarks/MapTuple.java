@@ -0,0 +1,56 @@
+package com.formbuilder.backend.benchmarks;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal {@link Tuple} over alias -> value pairs, standing in for query rows.
+ */
+final class MapTuple implements Tuple {
+
+    private final Map<String, Object> values;
+    private final Object[] array;
+
+    MapTuple(Map<String, Object> values) {
+        this.values = values;
+        this.array = values.values().toArray();
+    }
+
+    @Override
+    public <X> X get(TupleElement<X> tupleElement) {
+        return tupleElement.getJavaType().cast(values.get(tupleElement.getAlias()));
+    }
+
+    @Override
+    public <X> X get(String alias, Class<X> type) {
+        return type.cast(values.get(alias));
+    }
+
+    @Override
+    public Object get(String alias) {
+        return values.get(alias);
+    }
+
+    @Override
+    public <X> X get(int i, Class<X> type) {
+        return type.cast(array[i]);
+    }
+
+    @Override
+    public Object get(int i) {
+        return array[i];
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    @Override
+    public List<TupleElement<?>> getElements() {
+        throw new UnsupportedOperationException("Not needed by the benchmarks");
+    }
+}
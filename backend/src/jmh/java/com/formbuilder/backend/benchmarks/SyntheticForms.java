@@ -0,0 +1,155 @@
+package com.formbuilder.backend.benchmarks;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates synthetic forms of a given size and shape for the benchmarks.
+ * <p>
+ * Components are laid out as chains of {@code depth} nested panels (the last one a text input),
+ * with at most {@value #ROOTS_PER_PAGE} chains per page, so the total component count is exact
+ * and the nesting depth is the same everywhere.
+ */
+final class SyntheticForms {
+
+    static final int ROOTS_PER_PAGE = 25;
+
+    private SyntheticForms() {
+    }
+
+    /**
+     * @return a transient form (no ids) ready to be persisted
+     */
+    static Form build(int componentCount, int depth, int attributeBytes) {
+        String attributes = attributes(attributeBytes);
+        Form form = new Form("Synthetic " + componentCount + "x" + depth, "Benchmark fixture");
+
+        Page page = null;
+        int roots = 0;
+        int created = 0;
+        while (created < componentCount) {
+            if (page == null || page.getComponents().size() == ROOTS_PER_PAGE) {
+                page = new Page("Page " + form.getPages().size());
+                page.setOrderIndex(form.getPages().size());
+                form.addPage(page);
+            }
+            int chainLength = Math.min(depth, componentCount - created);
+            Component parent = null;
+            for (int level = 0; level < chainLength; level++) {
+                boolean leaf = level == chainLength - 1;
+                Component component = ComponentTypes.newComponent(leaf ? "TEXT_INPUT" : "PANEL", "Field " + created, attributes);
+                if (parent == null) {
+                    component.setOrderIndex(roots++);
+                    page.addComponent(component);
+                } else {
+                    component.setOrderIndex(0);
+                    component.setPage(page);
+                    parent.addChildComponent(component);
+                }
+                parent = component;
+                created++;
+            }
+        }
+        return form;
+    }
+
+    /**
+     * Same as {@link #build} with sequential ids assigned, as if loaded from the database.
+     */
+    static Form buildWithIds(int componentCount, int depth, int attributeBytes) {
+        Form form = build(componentCount, depth, attributeBytes);
+        form.setId(1L);
+        long pageId = 1;
+        long[] componentId = {1};
+        for (Page page : form.getPages()) {
+            page.setId(pageId++);
+            for (Component component : page.getComponents()) {
+                assignIds(component, componentId);
+            }
+        }
+        return form;
+    }
+
+    /**
+     * JSON attributes of roughly {@code bytes} bytes, shaped like the ones the editor writes.
+     */
+    static String attributes(int bytes) {
+        String prefix = "{\"placeholder\":\"Enter a value\",\"required\":true,\"helpText\":\"";
+        String suffix = "\"}";
+        int padding = Math.max(0, bytes - prefix.length() - suffix.length());
+        return prefix + "x".repeat(padding) + suffix;
+    }
+
+    static List<Tuple> pageRows(Form form) {
+        List<Tuple> rows = new ArrayList<>();
+        for (Page page : form.getPages()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", page.getId());
+            row.put("formId", form.getId());
+            row.put("name", page.getName());
+            row.put("orderIndex", page.getOrderIndex());
+            rows.add(new MapTuple(row));
+        }
+        return rows;
+    }
+
+    /**
+     * Component rows in the order the repository query returns them (orderIndex, then id).
+     */
+    static List<Tuple> componentRows(Form form) {
+        List<Component> components = allComponents(form);
+        components.sort((a, b) -> a.getOrderIndex().equals(b.getOrderIndex())
+                ? a.getId().compareTo(b.getId())
+                : a.getOrderIndex().compareTo(b.getOrderIndex()));
+
+        List<Tuple> rows = new ArrayList<>(components.size());
+        for (Component component : components) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", component.getId());
+            row.put("formId", form.getId());
+            row.put("pageId", component.getPage().getId());
+            row.put("parentId", component.getParentComponent() != null ? component.getParentComponent().getId() : null);
+            row.put("componentType", component.getComponentType());
+            row.put("label", component.getLabel());
+            row.put("orderIndex", component.getOrderIndex());
+            row.put("attributes", component.getAttributes());
+            rows.add(new MapTuple(row));
+        }
+        return rows;
+    }
+
+    /**
+     * Every component of the form, parents before their children.
+     */
+    static List<Component> allComponents(Form form) {
+        List<Component> components = new ArrayList<>();
+        for (Page page : form.getPages()) {
+            for (Component component : page.getComponents()) {
+                collect(component, components);
+            }
+        }
+        return components;
+    }
+
+    private static void assignIds(Component component, long[] nextId) {
+        component.setId(nextId[0]++);
+        for (Component child : component.getChildComponents()) {
+            assignIds(child, nextId);
+        }
+    }
+
+    private static void collect(Component component, List<Component> into) {
+        into.add(component);
+        for (Component child : component.getChildComponents()) {
+            collect(child, into);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.formbuilder.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares request handling on Tomcat's platform thread pool with virtual threads
+ * ({@code spring.threads.virtual.enabled}) as the number of concurrent clients grows.
+ * <p>
+ * For each thread mode the application is booted on a fresh in-memory database and seeded like
+ * {@link LoadTestRunner}; then, for each client count in {@code loadtest.sweepClients}, that many
+ * clients run the same mixed workload for {@code loadtest.sweepStepSeconds} (after the warm-up),
+ * each with exactly one request in flight. Clients are asynchronous, so the load generator itself
+ * needs no thread per client. The form snapshot cache is disabled so that reads go through JDBC.
+ * <p>
+ * Virtual threads need Java 21; on older runtimes that mode is skipped.
+ */
+public final class ConcurrencySweepRunner {
+
+    record StepResult(String threadMode, int clients, int requests, int errors, double throughputPerSecond,
+                      double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    private ConcurrencySweepRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<String> modes = List.of(System.getProperty("loadtest.threadModes", "platform,virtual").split(","));
+
+        List<StepResult> results = new ArrayList<>();
+        for (String mode : modes) {
+            boolean virtual = mode.trim().equals("virtual");
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual threads: running on Java " + Runtime.version().feature());
+                continue;
+            }
+            results.addAll(sweep(settings, virtual, args));
+        }
+
+        write(settings, results);
+        for (StepResult result : results) {
+            System.out.printf("%-8s %6d clients %8d req %6d err %9.1f req/s  p50 %8.2f  p99 %8.2f  p99.9 %8.2f ms%n",
+                    result.threadMode(), result.clients(), result.requests(), result.errors(),
+                    result.throughputPerSecond(), result.p50Millis(), result.p99Millis(), result.p999Millis());
+        }
+        System.out.println("Report written to " + settings.reportDirectory().resolve("sweep.json").toAbsolutePath());
+    }
+
+    private static List<StepResult> sweep(LoadTestSettings settings, boolean virtual, String[] args) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        int maxClients = Collections.max(settings.sweepClients());
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:sweep-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        // Let every client connect; with platform threads the excess waits for a worker
+                        "server.tomcat.max-connections=" + (maxClients + 1000),
+                        "server.tomcat.accept-count=" + maxClients,
+                        "formbuilder.cache.form-snapshots.maximum-weight-bytes=0")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            SeededForms seeded = SeededForms.seed(context.getBean(FormRepository.class), settings);
+            LoadTestRunner workload = new LoadTestRunner(settings, seeded, port);
+
+            ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .executor(callbacks)
+                    .build();
+            try {
+                List<StepResult> results = new ArrayList<>();
+                for (int clients : settings.sweepClients()) {
+                    results.add(step(settings, mode, clients, workload, httpClient, callbacks));
+                }
+                return results;
+            } finally {
+                callbacks.shutdownNow();
+            }
+        }
+    }
+
+    private static StepResult step(LoadTestSettings settings, String mode, int clients, LoadTestRunner workload,
+                                   HttpClient httpClient, ExecutorService callbacks) throws InterruptedException {
+        long recordFrom = System.nanoTime() + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+        long stopAt = recordFrom + Duration.ofSeconds(settings.sweepStepSeconds()).toNanos();
+        EndpointStats stats = new EndpointStats();
+        CountDownLatch done = new CountDownLatch(clients);
+        Client client = new Client(workload, httpClient, callbacks, stats, recordFrom, stopAt, done);
+        for (int i = 0; i < clients; i++) {
+            client.next();
+        }
+        done.await();
+
+        long[] sorted = stats.sortedLatencies();
+        return new StepResult(mode, clients, stats.count(), stats.errors(),
+                (double) stats.count() / settings.sweepStepSeconds(),
+                EndpointStats.percentileMillis(sorted, 50),
+                EndpointStats.percentileMillis(sorted, 99),
+                EndpointStats.percentileMillis(sorted, 99.9),
+                EndpointStats.percentileMillis(sorted, 100));
+    }
+
+    /**
+     * Sends the next request of one client when its previous one completes, until the step ends.
+     * Completions run on the callback pool so that instant failures cannot recurse on one stack.
+     */
+    private record Client(LoadTestRunner workload, HttpClient httpClient, ExecutorService callbacks,
+                          EndpointStats stats, long recordFrom, long stopAt, CountDownLatch done) {
+
+        void next() {
+            if (System.nanoTime() >= stopAt) {
+                done.countDown();
+                return;
+            }
+            LoadTestRunner.Operation operation = workload.nextOperation(ThreadLocalRandom.current());
+            long sentAt = System.nanoTime();
+            httpClient.sendAsync(operation.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenCompleteAsync((response, error) -> {
+                        long latency = System.nanoTime() - sentAt;
+                        if (sentAt >= recordFrom) {
+                            synchronized (stats) {
+                                stats.record(latency, error == null && response.statusCode() < 400);
+                            }
+                        }
+                        next();
+                    }, callbacks);
+        }
+    }
+
+    private static void write(LoadTestSettings settings, List<StepResult> results) throws IOException {
+        Files.createDirectories(settings.reportDirectory());
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", Instant.now().toString());
+        json.put("javaVersion", Runtime.version().toString());
+        json.put("settings", settings);
+        json.put("steps", results);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(settings.reportDirectory().resolve("sweep.json").toFile(), json);
+    }
+}
@@ -0,0 +1,57 @@
+package com.formbuilder.backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one endpoint. Not thread safe: every worker keeps its own and they are merged at the end.
+ */
+final class EndpointStats {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latenciesNanos[i], true);
+        }
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * @param sorted     latencies from {@link #sortedLatencies()}
+     * @param percentile between 0 and 100
+     * @return latency in milliseconds (nearest rank)
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(rank, sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    long[] sortedLatencies() {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
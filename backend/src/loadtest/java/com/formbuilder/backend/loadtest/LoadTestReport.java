@@ -0,0 +1,88 @@
+package com.formbuilder.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint latency percentiles and throughput, written as {@code report.json} (stable keys, for
+ * diffing between builds) and {@code report.html}.
+ */
+final class LoadTestReport {
+
+    record EndpointResult(String endpoint, int requests, int errors, double throughputPerSecond,
+                          double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    private final LoadTestSettings settings;
+    private final List<EndpointResult> endpoints = new ArrayList<>();
+
+    LoadTestReport(LoadTestSettings settings, Map<String, EndpointStats> statsByEndpoint) {
+        this.settings = settings;
+        statsByEndpoint.forEach((endpoint, stats) -> {
+            long[] sorted = stats.sortedLatencies();
+            endpoints.add(new EndpointResult(endpoint, stats.count(), stats.errors(),
+                    (double) stats.count() / settings.durationSeconds(),
+                    EndpointStats.percentileMillis(sorted, 50),
+                    EndpointStats.percentileMillis(sorted, 99),
+                    EndpointStats.percentileMillis(sorted, 99.9),
+                    EndpointStats.percentileMillis(sorted, 100)));
+        });
+    }
+
+    List<EndpointResult> endpoints() {
+        return endpoints;
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", Instant.now().toString());
+        json.put("settings", settings);
+        json.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), json);
+
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n<title>Form Builder load test</title>\n")
+                .append("<style>body{font-family:sans-serif}table{border-collapse:collapse}")
+                .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}td:first-child{text-align:left}</style>\n")
+                .append("</head>\n<body>\n<h1>Form Builder load test</h1>\n")
+                .append("<p>").append(settings.threads()).append(" threads, ")
+                .append(settings.durationSeconds()).append(" s measured after ")
+                .append(settings.warmupSeconds()).append(" s warm-up; ")
+                .append(settings.forms()).append(" forms x ").append(settings.pagesPerForm()).append(" pages x ")
+                .append(settings.panelsPerPage()).append(" panels x ").append(settings.childrenPerPanel())
+                .append(" inputs.</p>\n<table>\n<tr><th>Endpoint</th><th>Requests</th><th>Errors</th><th>req/s</th>")
+                .append("<th>p50 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th></tr>\n");
+        for (EndpointResult result : endpoints) {
+            html.append("<tr><td>").append(result.endpoint()).append("</td>")
+                    .append(cell(result.requests())).append(cell(result.errors()))
+                    .append(cell(result.throughputPerSecond())).append(cell(result.p50Millis()))
+                    .append(cell(result.p99Millis())).append(cell(result.p999Millis()))
+                    .append(cell(result.maxMillis())).append("</tr>\n");
+        }
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String cell(double value) {
+        return "<td>" + String.format("%.2f", value) + "</td>";
+    }
+
+    private static String cell(int value) {
+        return "<td>" + value + "</td>";
+    }
+}
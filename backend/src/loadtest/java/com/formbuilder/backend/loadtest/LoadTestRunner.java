@@ -0,0 +1,176 @@
+package com.formbuilder.backend.loadtest;
+
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application on a random port with an in-memory H2 database, seeds it and drives a
+ * mixed workload against the REST API from a fixed number of client threads:
+ * <ul>
+ *     <li>form reads: {@code GET /api/forms/{formId}}</li>
+ *     <li>reorders of a page's root components</li>
+ *     <li>moves of an input to another panel of the same page</li>
+ *     <li>creates of an input inside a panel</li>
+ * </ul>
+ * Requests made during the warm-up are not recorded. See {@link LoadTestSettings} for the knobs.
+ */
+public final class LoadTestRunner {
+
+    static final String READ_FORM = "GET /api/forms/{formId}";
+    static final String REORDER_COMPONENTS = "PUT /api/pages/{pageId}/components/reorder";
+    static final String MOVE_COMPONENT = "PUT /api/components/{componentId}/move";
+    static final String CREATE_NESTED_COMPONENT = "POST /api/components/{parentComponentId}/components";
+
+    private final LoadTestSettings settings;
+    private final SeededForms seeded;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    /**
+     * A request of the mixed workload, and the endpoint its latency is recorded under.
+     */
+    record Operation(String endpoint, HttpRequest request) {
+    }
+
+    LoadTestRunner(LoadTestSettings settings, SeededForms seeded, int port) {
+        this.settings = settings;
+        this.seeded = seeded;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.baseUrl = "http://localhost:" + port + "/api";
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            SeededForms seeded = SeededForms.seed(context.getBean(FormRepository.class), settings);
+
+            LoadTestReport report = new LoadTestRunner(settings, seeded, port).run();
+            report.write(settings.reportDirectory());
+
+            for (LoadTestReport.EndpointResult result : report.endpoints()) {
+                System.out.printf("%-55s %8d req %6d err %9.1f req/s  p50 %7.2f  p99 %7.2f  p99.9 %7.2f ms%n",
+                        result.endpoint(), result.requests(), result.errors(), result.throughputPerSecond(),
+                        result.p50Millis(), result.p99Millis(), result.p999Millis());
+            }
+            System.out.println("Report written to " + settings.reportDirectory().toAbsolutePath());
+        }
+    }
+
+    private LoadTestReport run() throws Exception {
+        long start = System.nanoTime();
+        long recordFrom = start + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+        long stopAt = recordFrom + Duration.ofSeconds(settings.durationSeconds()).toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads());
+        List<Future<Map<String, EndpointStats>>> results = new ArrayList<>();
+        for (int i = 0; i < settings.threads(); i++) {
+            results.add(workers.submit(() -> drive(recordFrom, stopAt)));
+        }
+
+        Map<String, EndpointStats> merged = new TreeMap<>();
+        for (Future<Map<String, EndpointStats>> result : results) {
+            result.get().forEach((endpoint, stats) ->
+                    merged.computeIfAbsent(endpoint, e -> new EndpointStats()).merge(stats));
+        }
+        workers.shutdown();
+        return new LoadTestReport(settings, merged);
+    }
+
+    private Map<String, EndpointStats> drive(long recordFrom, long stopAt) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < stopAt) {
+            Operation operation = nextOperation(random);
+
+            long sentAt = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(operation.request(), HttpResponse.BodyHandlers.ofByteArray());
+                success = response.statusCode() < 400;
+            } catch (Exception e) {
+                success = false;
+            }
+            long latency = System.nanoTime() - sentAt;
+            if (sentAt >= recordFrom) {
+                stats.computeIfAbsent(operation.endpoint(), e -> new EndpointStats()).record(latency, success);
+            }
+        }
+        return stats;
+    }
+
+    Operation nextOperation(ThreadLocalRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < settings.readPercent()) {
+            return new Operation(READ_FORM, readForm(random));
+        } else if (roll < settings.readPercent() + settings.reorderPercent()) {
+            return new Operation(REORDER_COMPONENTS, reorderComponents(random));
+        } else if (roll < settings.readPercent() + settings.reorderPercent() + settings.movePercent()) {
+            return new Operation(MOVE_COMPONENT, moveComponent(random));
+        } else {
+            return new Operation(CREATE_NESTED_COMPONENT, createNestedComponent(random));
+        }
+    }
+
+    private HttpRequest readForm(ThreadLocalRandom random) {
+        Long formId = pick(seeded.formIds(), random);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/forms/" + formId)).GET().build();
+    }
+
+    private HttpRequest reorderComponents(ThreadLocalRandom random) {
+        SeededForms.SeededPage page = pick(seeded.pages(), random);
+        List<Long> shuffled = new ArrayList<>(page.panelIds());
+        Collections.shuffle(shuffled, random);
+        return json(baseUrl + "/pages/" + page.pageId() + "/components/reorder", "PUT",
+                "{\"componentIds\": " + shuffled + "}");
+    }
+
+    private HttpRequest moveComponent(ThreadLocalRandom random) {
+        SeededForms.SeededPage page = pick(seeded.pages(), random);
+        Long inputId = pick(page.inputIds(), random);
+        Long panelId = pick(page.panelIds(), random);
+        return json(baseUrl + "/components/" + inputId + "/move", "PUT",
+                "{\"targetParentComponentId\": " + panelId + "}");
+    }
+
+    private HttpRequest createNestedComponent(ThreadLocalRandom random) {
+        SeededForms.SeededPage page = pick(seeded.pages(), random);
+        Long panelId = pick(page.panelIds(), random);
+        return json(baseUrl + "/components/" + panelId + "/components", "POST",
+                "{\"componentType\": \"TEXT_INPUT\", \"label\": \"Created under load\", \"attributes\": \"{}\"}");
+    }
+
+    private static HttpRequest json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
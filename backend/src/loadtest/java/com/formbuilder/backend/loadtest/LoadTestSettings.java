@@ -0,0 +1,63 @@
+package com.formbuilder.backend.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties (e.g. {@code -Dloadtest.threads=32}).
+ */
+record LoadTestSettings(
+        int forms,
+        int pagesPerForm,
+        int panelsPerPage,
+        int childrenPerPanel,
+        int threads,
+        int warmupSeconds,
+        int durationSeconds,
+        int readPercent,
+        int reorderPercent,
+        int movePercent,
+        List<Integer> sweepClients,
+        int sweepStepSeconds,
+        Path reportDirectory) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                intProperty("forms", 50),
+                intProperty("pagesPerForm", 3),
+                intProperty("panelsPerPage", 10),
+                intProperty("childrenPerPanel", 5),
+                intProperty("threads", 16),
+                intProperty("warmupSeconds", 10),
+                intProperty("durationSeconds", 60),
+                intProperty("readPercent", 80),
+                intProperty("reorderPercent", 7),
+                intProperty("movePercent", 7),
+                intListProperty("sweepClients", "1000,2000,5000,10000"),
+                intProperty("sweepStepSeconds", 30),
+                Path.of(System.getProperty("loadtest.reportDirectory", "target/loadtest")));
+        if (settings.readPercent + settings.reorderPercent + settings.movePercent > 100) {
+            throw new IllegalArgumentException("readPercent + reorderPercent + movePercent must not exceed 100");
+        }
+        return settings;
+    }
+
+    /**
+     * Share of requests creating nested components: whatever the other operations leave.
+     */
+    int createPercent() {
+        return 100 - readPercent - reorderPercent - movePercent;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    private static List<Integer> intListProperty(String name, String defaultValue) {
+        return Arrays.stream(System.getProperty("loadtest." + name, defaultValue).split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
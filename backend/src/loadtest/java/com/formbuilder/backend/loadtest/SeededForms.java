@@ -0,0 +1,68 @@
+package com.formbuilder.backend.loadtest;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds forms the way {@code DataLoader} does (build the tree, save the form) and keeps the ids
+ * the workload needs. Every page holds a fixed set of root panels, each with a few text inputs.
+ * The workload only moves inputs between panels of the same page and only creates components
+ * inside panels, so the root components of a page never change and can always be reordered.
+ */
+final class SeededForms {
+
+    record SeededPage(long pageId, List<Long> panelIds, List<Long> inputIds) {
+    }
+
+    private final List<Long> formIds = new ArrayList<>();
+    private final List<SeededPage> pages = new ArrayList<>();
+
+    static SeededForms seed(FormRepository formRepository, LoadTestSettings settings) {
+        SeededForms seeded = new SeededForms();
+        for (int f = 0; f < settings.forms(); f++) {
+            Form form = new Form("Load Test Form " + f, "Seeded by the load test");
+            for (int p = 0; p < settings.pagesPerForm(); p++) {
+                Page page = new Page("Page " + p);
+                page.setOrderIndex(p);
+                form.addPage(page);
+                for (int c = 0; c < settings.panelsPerPage(); c++) {
+                    Component panel = ComponentTypes.newComponent("PANEL", "Panel " + c, "{}");
+                    panel.setOrderIndex(c);
+                    page.addComponent(panel);
+                    for (int i = 0; i < settings.childrenPerPanel(); i++) {
+                        Component input = ComponentTypes.newComponent("TEXT_INPUT", "Input " + i, "{\"placeholder\": \"Value\", \"required\": false}");
+                        input.setOrderIndex(i);
+                        input.setPage(page);
+                        panel.addChildComponent(input);
+                    }
+                }
+            }
+            Form saved = formRepository.save(form);
+            seeded.formIds.add(saved.getId());
+            for (Page page : saved.getPages()) {
+                List<Long> panelIds = new ArrayList<>();
+                List<Long> inputIds = new ArrayList<>();
+                for (Component panel : page.getComponents()) {
+                    panelIds.add(panel.getId());
+                    panel.getChildComponents().forEach(input -> inputIds.add(input.getId()));
+                }
+                seeded.pages.add(new SeededPage(page.getId(), List.copyOf(panelIds), List.copyOf(inputIds)));
+            }
+        }
+        return seeded;
+    }
+
+    List<Long> formIds() {
+        return formIds;
+    }
+
+    List<SeededPage> pages() {
+        return pages;
+    }
+}
@@ -0,0 +1,178 @@
+package com.formbuilder.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.formbuilder.backend.BackendApplication;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares the in-memory database with the durable {@code file} profile: how long a start takes
+ * on a populated database and how fast whole forms can be read from it.
+ * <p>
+ * The database is seeded like {@link LoadTestRunner} (scale it with {@code loadtest.forms} etc.;
+ * e.g. {@code -Dloadtest.forms=5000 -Dloadtest.pagesPerForm=4 -Dloadtest.childrenPerPanel=4} gives
+ * one million components). In file mode the seeding run is stopped and the measured start opens
+ * the existing file, so it reflects a restart; the in-memory start is always on an empty database.
+ * Reads use {@code loadtest.threads} clients for {@code loadtest.durationSeconds} with the form
+ * snapshot cache disabled, so every request goes to the database.
+ */
+public final class StorageModeBenchmark {
+
+    record ModeResult(String mode, long components, long databaseOpenMillis, long startupMillis,
+                      long firstReadMillis, int reads, int errors, double readsPerSecond,
+                      double p50Millis, double p99Millis, long databaseFileBytes) {
+    }
+
+    private StorageModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path storageDirectory = settings.reportDirectory().resolve("storage-db").toAbsolutePath();
+        FileSystemUtils.deleteRecursively(storageDirectory);
+
+        List<ModeResult> results = new ArrayList<>();
+        results.add(memory(settings, args));
+        results.add(file(settings, storageDirectory, args));
+
+        Files.createDirectories(settings.reportDirectory());
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", Instant.now().toString());
+        json.put("settings", settings);
+        json.put("modes", results);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(settings.reportDirectory().resolve("storage.json").toFile(), json);
+
+        for (ModeResult result : results) {
+            System.out.printf("%-6s %9d components  open %6d ms  start %6d ms  first read %5d ms  %9.1f reads/s  p50 %7.2f  p99 %7.2f ms%n",
+                    result.mode(), result.components(), result.databaseOpenMillis(), result.startupMillis(),
+                    result.firstReadMillis(), result.readsPerSecond(), result.p50Millis(), result.p99Millis());
+        }
+        System.out.println("Report written to " + settings.reportDirectory().resolve("storage.json").toAbsolutePath());
+    }
+
+    private static ModeResult memory(LoadTestSettings settings, String[] args) throws Exception {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = builder().properties(
+                "spring.datasource.url=jdbc:h2:mem:storage-benchmark;DB_CLOSE_DELAY=-1").run(args)) {
+            long startupMillis = millisSince(startedAt);
+            SeededForms seeded = SeededForms.seed(context.getBean(FormRepository.class), settings);
+            return measure("memory", context, seeded, settings, 0, startupMillis, 0);
+        }
+    }
+
+    private static ModeResult file(LoadTestSettings settings, Path storageDirectory, String[] args) throws Exception {
+        SeededForms seeded;
+        try (ConfigurableApplicationContext context = builder().profiles("file")
+                .properties("formbuilder.storage.directory=" + storageDirectory).run(args)) {
+            seeded = SeededForms.seed(context.getBean(FormRepository.class), settings);
+        }
+
+        // Opening the MVStore file on its own, without Spring and Hibernate
+        long openedAt = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:nioMapped:" + storageDirectory + "/formbuilder", "sa", "password");
+             Statement statement = connection.createStatement()) {
+            statement.execute("select count(*) from forms");
+        }
+        long databaseOpenMillis = millisSince(openedAt);
+
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = builder().profiles("file")
+                .properties("formbuilder.storage.directory=" + storageDirectory).run(args)) {
+            long startupMillis = millisSince(startedAt);
+            return measure("file", context, seeded, settings, databaseOpenMillis, startupMillis,
+                    Files.size(storageDirectory.resolve("formbuilder.mv.db")));
+        }
+    }
+
+    private static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(BackendApplication.class).properties(
+                "server.port=0",
+                "logging.level.root=WARN",
+                "formbuilder.cache.form-snapshots.maximum-weight-bytes=0");
+    }
+
+    private static ModeResult measure(String mode, ConfigurableApplicationContext context, SeededForms seeded,
+                                      LoadTestSettings settings, long databaseOpenMillis, long startupMillis,
+                                      long databaseFileBytes) throws Exception {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        List<Long> formIds = seeded.formIds();
+
+        long firstReadAt = System.nanoTime();
+        httpClient.send(readForm(port, formIds.get(0)), HttpResponse.BodyHandlers.discarding());
+        long firstReadMillis = millisSince(firstReadAt);
+
+        long recordFrom = System.nanoTime() + Duration.ofSeconds(settings.warmupSeconds()).toNanos();
+        long stopAt = recordFrom + Duration.ofSeconds(settings.durationSeconds()).toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads());
+        List<Future<EndpointStats>> futures = new ArrayList<>();
+        for (int i = 0; i < settings.threads(); i++) {
+            futures.add(workers.submit(() -> {
+                EndpointStats stats = new EndpointStats();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < stopAt) {
+                    HttpRequest request = readForm(port, formIds.get(random.nextInt(formIds.size())));
+                    long sentAt = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    if (sentAt >= recordFrom) {
+                        stats.record(System.nanoTime() - sentAt, success);
+                    }
+                }
+                return stats;
+            }));
+        }
+        EndpointStats stats = new EndpointStats();
+        for (Future<EndpointStats> future : futures) {
+            stats.merge(future.get());
+        }
+        workers.shutdown();
+
+        long[] sorted = stats.sortedLatencies();
+        return new ModeResult(mode, context.getBean(ComponentRepository.class).count(), databaseOpenMillis,
+                startupMillis, firstReadMillis, stats.count(), stats.errors(),
+                (double) stats.count() / settings.durationSeconds(),
+                EndpointStats.percentileMillis(sorted, 50), EndpointStats.percentileMillis(sorted, 99),
+                databaseFileBytes);
+    }
+
+    private static HttpRequest readForm(int port, Long formId) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/forms/" + formId)).GET().build();
+    }
+
+    private static long millisSince(long nanoTime) {
+        return Duration.ofNanos(System.nanoTime() - nanoTime).toMillis();
+    }
+}
@@ -3,6 +3,10 @@ package com.formbuilder.backend;
 import com.formbuilder.backend.models.Component;
 import com.formbuilder.backend.models.Form;
 import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.EmailInputComponent;
+import com.formbuilder.backend.models.types.PanelComponent;
+import com.formbuilder.backend.models.types.TextAreaComponent;
+import com.formbuilder.backend.models.types.TextInputComponent;
 import com.formbuilder.backend.repositories.ComponentRepository;
 import com.formbuilder.backend.repositories.FormRepository;
 import com.formbuilder.backend.repositories.PageRepository;
@@ -35,25 +39,21 @@ public class DataLoader implements CommandLineRunner {
             page1.setName("Personal Information");
             // form1.addPage(page1); // Associate page with form
 
-            Component comp1 = new Component();
-            comp1.setComponentType("TEXT_INPUT");
+            Component comp1 = new TextInputComponent();
             comp1.setLabel("First Name");
             comp1.setAttributes("{\"placeholder\": \"Enter your first name\"}"); // Escaped JSON
             // page1.addComponent(comp1); // Associate component with page
 
-            Component comp2 = new Component();
-            comp2.setComponentType("TEXT_AREA");
+            Component comp2 = new TextAreaComponent();
             comp2.setLabel("Feedback");
             comp2.setAttributes("{\"rows\": 3}");
             // page1.addComponent(comp2);
 
-            Component parentComp = new Component();
-            parentComp.setComponentType("PANEL");
+            Component parentComp = new PanelComponent();
             parentComp.setLabel("Contact Info");
             // page1.addComponent(parentComp);
 
-            Component childComp = new Component();
-            childComp.setComponentType("EMAIL_INPUT");
+            Component childComp = new EmailInputComponent();
             childComp.setLabel("Email");
             childComp.setAttributes("{\"required\": true}");
             // parentComp.addChildComponent(childComp); // Nest it
@@ -0,0 +1,7 @@
+package com.formbuilder.backend.cache;
+
+/**
+ * Serialized form tree together with the form version it was read at.
+ */
+public record FormSnapshot(Long version, byte[] json) {
+}
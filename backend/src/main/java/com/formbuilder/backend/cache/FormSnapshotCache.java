@@ -0,0 +1,98 @@
+package com.formbuilder.backend.cache;
+
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of serialized form trees (the JSON body of GET /api/forms/{formId}), keyed by
+ * form id and bounded by the total number of cached bytes.
+ * <p>
+ * Readers take a {@link #readStamp()} before loading a form and hand it back to
+ * {@link #put(Long, FormSnapshot, long)}; a snapshot is only stored if no invalidation happened in
+ * between, so a read racing with a write can never re-populate the cache with stale data.
+ */
+@Component
+public class FormSnapshotCache {
+
+    private final Cache<Long, FormSnapshot> snapshots;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FormSnapshotCache(@Value("${formbuilder.cache.form-snapshots.maximum-weight-bytes:67108864}") long maximumWeightBytes) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Long formId, FormSnapshot snapshot) -> snapshot.json().length)
+                .recordStats()
+                // Evict on the writing thread so the weight bound holds as soon as put returns
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public FormSnapshot getIfPresent(Long formId) {
+        return snapshots.getIfPresent(formId);
+    }
+
+    public long readStamp() {
+        return invalidations.get();
+    }
+
+    public void put(Long formId, FormSnapshot snapshot, long readStamp) {
+        if (invalidations.get() != readStamp) {
+            return;
+        }
+        snapshots.put(formId, snapshot);
+        // An invalidation may have slipped in between the check and the put
+        if (invalidations.get() != readStamp) {
+            snapshots.invalidate(formId);
+        }
+    }
+
+    public void invalidate(Long formId) {
+        invalidations.incrementAndGet();
+        snapshots.invalidate(formId);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+
+    /**
+     * Runs after the surrounding transaction commits, or immediately when the change was made
+     * outside of a transaction (each repository call then commits on its own).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFormChanged(FormChangedEvent event) {
+        if (event.formId() != null) {
+            invalidate(event.formId());
+        }
+    }
+
+    public CacheStats stats() {
+        return snapshots.stats();
+    }
+
+    public Map<String, Object> describe() {
+        CacheStats stats = snapshots.stats();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("size", snapshots.estimatedSize());
+        description.put("weightBytes", snapshots.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        description.put("hitCount", stats.hitCount());
+        description.put("missCount", stats.missCount());
+        description.put("hitRate", stats.hitRate());
+        description.put("evictionCount", stats.evictionCount());
+        description.put("evictionWeightBytes", stats.evictionWeight());
+        return description;
+    }
+}
@@ -0,0 +1,55 @@
+package com.formbuilder.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.metrics.CacheCountingSessionListener;
+import com.formbuilder.backend.metrics.LoadCountingIntegrator;
+import com.formbuilder.backend.metrics.RequestMetricsFilter;
+import com.formbuilder.backend.metrics.StatementCountingInspector;
+import com.formbuilder.backend.metrics.TimedJacksonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Per-request metrics: Hibernate hooks feeding {@link com.formbuilder.backend.metrics.RequestMetrics}
+ * and the filter publishing them to Micrometer and enforcing the SQL statement budgets.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, CacheCountingSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new LoadCountingIntegrator()));
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${formbuilder.query-budget.default-max-statements:50}") int defaultMaxStatements,
+            @Value("${formbuilder.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(meterRegistry, defaultMaxStatements, failOnExceed));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    // Replaces the converter Spring Boot would otherwise register for the same ObjectMapper
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+}
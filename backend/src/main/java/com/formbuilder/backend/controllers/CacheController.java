@@ -0,0 +1,28 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.cache.FormSnapshotCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private FormSnapshotCache formSnapshotCache;
+
+    @GetMapping("/forms")
+    public ResponseEntity<Map<String, Object>> getFormSnapshotCacheStats() {
+        return new ResponseEntity<>(formSnapshotCache.describe(), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/forms")
+    public ResponseEntity<HttpStatus> clearFormSnapshotCache() {
+        formSnapshotCache.invalidateAll();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
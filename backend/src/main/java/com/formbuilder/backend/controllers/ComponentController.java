@@ -1,18 +1,32 @@
 package com.formbuilder.backend.controllers;
 
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.events.FormDeltaEvent;
 import com.formbuilder.backend.exceptions.ComponentNotFoundException;
+import com.formbuilder.backend.exceptions.InvalidComponentMoveException;
+import com.formbuilder.backend.exceptions.InvalidComponentTypeException;
 import com.formbuilder.backend.exceptions.PageNotFoundException;
+import com.formbuilder.backend.metrics.QueryBudget;
 import com.formbuilder.backend.models.Component;
 import com.formbuilder.backend.models.Page;
 import com.formbuilder.backend.repositories.ComponentRepository;
 import com.formbuilder.backend.repositories.PageRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.ComponentBulkService;
+import com.formbuilder.backend.services.SiblingOrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -24,29 +38,82 @@ public class ComponentController {
     @Autowired
     private PageRepository pageRepository;
 
+    @Autowired
+    private ComponentBulkService componentBulkService;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private SiblingOrderService siblingOrderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @PostMapping("/pages/{pageId}/components")
+    @Transactional
     public ResponseEntity<Component> createComponentInPage(@PathVariable Long pageId, @RequestBody Component component) {
         Page page = pageRepository.findById(pageId)
                 .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
+        requireComponentType(component);
+        if (!component.hasOrderIndex()) {
+            component.setOrderIndex(siblingOrderService.nextRootComponentOrderIndex(pageId));
+        }
         component.setPage(page);
         Component savedComponent = componentRepository.save(component);
+        publishFormChange(FormDeltaEvent.componentsCreated(formIdOf(page), pageId, null, List.of(savedComponent)));
         return new ResponseEntity<>(savedComponent, HttpStatus.CREATED);
     }
 
     @PostMapping("/components/{parentComponentId}/components")
+    @Transactional
     public ResponseEntity<Component> createNestedComponent(@PathVariable Long parentComponentId, @RequestBody Component component) {
         Component parentComponent = componentRepository.findById(parentComponentId)
                 .orElseThrow(() -> new ComponentNotFoundException("Parent component not found with id: " + parentComponentId));
 
+        requireComponentType(component);
+        if (!component.hasOrderIndex()) {
+            component.setOrderIndex(siblingOrderService.nextChildComponentOrderIndex(parentComponentId));
+        }
         // Associate with the same page as the parent
         component.setPage(parentComponent.getPage());
         component.setParentComponent(parentComponent);
         // parentComponent.addChildComponent(component); // Already handled by setting parentComponent? JPA should manage this.
 
         Component savedComponent = componentRepository.save(component);
+        Page page = parentComponent.getPage();
+        publishFormChange(FormDeltaEvent.componentsCreated(formIdOf(page), page != null ? page.getId() : null,
+                parentComponentId, List.of(savedComponent)));
         return new ResponseEntity<>(savedComponent, HttpStatus.CREATED);
     }
 
+    // ===== BULK CREATE (WHOLE SUBTREES IN ONE REQUEST) =====
+
+    @PostMapping("/pages/{pageId}/components/bulk")
+    @Transactional
+    public ResponseEntity<List<Component>> createComponentsInPage(@PathVariable Long pageId, @RequestBody List<Component> components) {
+        if (components == null || components.isEmpty()) {
+            throw new IllegalArgumentException("components array is required");
+        }
+        List<Component> savedComponents = componentBulkService.createInPage(pageId, components);
+        publishFormChange(FormDeltaEvent.componentsCreated(pageRepository.findFormIdById(pageId).orElse(null),
+                pageId, null, savedComponents));
+        return new ResponseEntity<>(savedComponents, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/components/{parentComponentId}/components/bulk")
+    @Transactional
+    public ResponseEntity<List<Component>> createNestedComponents(@PathVariable Long parentComponentId, @RequestBody List<Component> components) {
+        if (components == null || components.isEmpty()) {
+            throw new IllegalArgumentException("components array is required");
+        }
+        List<Component> savedComponents = componentBulkService.createUnderParent(parentComponentId, components);
+        Page page = savedComponents.get(0).getPage();
+        publishFormChange(FormDeltaEvent.componentsCreated(componentRepository.findFormIdById(parentComponentId).orElse(null),
+                page != null ? page.getId() : null, parentComponentId, savedComponents));
+        return new ResponseEntity<>(savedComponents, HttpStatus.CREATED);
+    }
+
     @GetMapping("/pages/{pageId}/components")
     public ResponseEntity<List<Component>> getAllComponentsForPage(@PathVariable Long pageId) {
         if (!pageRepository.existsById(pageId)) {
@@ -66,43 +133,70 @@ public class ComponentController {
         return new ResponseEntity<>(components, HttpStatus.OK);
     }
 
+    /**
+     * A component with all its nested components (or those down to {@code maxDepth} levels below
+     * it), assembled from one query instead of one request per level.
+     */
+    @GetMapping("/components/{componentId}/subtree")
+    @QueryBudget(1)
+    public ResponseEntity<Component> getComponentSubtree(@PathVariable Long componentId,
+                                                         @RequestParam(required = false) Integer maxDepth) {
+        Component component = componentRepository.findSubtreeById(componentId, maxDepth)
+                .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
+        return new ResponseEntity<>(component, HttpStatus.OK);
+    }
 
     @GetMapping("/components/{componentId}")
-    public ResponseEntity<Component> getComponentById(@PathVariable Long componentId) {
+    public ResponseEntity<Component> getComponentById(@PathVariable Long componentId, WebRequest webRequest) {
         Component component = componentRepository.findById(componentId)
                 .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
-        return new ResponseEntity<>(component, HttpStatus.OK);
+        String etag = component.getPage() != null ? ETags.of(component.getPage().getForm()) : null;
+        ResponseEntity<Component> notModified = ETags.notModified(webRequest, etag);
+        return notModified != null ? notModified : ETags.ok(component, etag);
     }
 
     @PutMapping("/components/{componentId}")
+    @Transactional
     public ResponseEntity<Component> updateComponent(@PathVariable Long componentId, @RequestBody Component componentDetails) {
         Component existingComponent = componentRepository.findById(componentId)
                 .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
 
-        existingComponent.setComponentType(componentDetails.getComponentType());
+        // The type picks the entity subclass, so a component keeps the type it was created with
+        requireComponentType(componentDetails);
+        if (!componentDetails.getComponentType().equals(existingComponent.getComponentType())) {
+            throw new InvalidComponentTypeException("Cannot change the type of component " + componentId + " from "
+                    + existingComponent.getComponentType() + " to " + componentDetails.getComponentType());
+        }
         existingComponent.setLabel(componentDetails.getLabel());
         existingComponent.setAttributes(componentDetails.getAttributes());
         // Note: Changing parentComponent or page might be complex and require specific business logic
 
         Component updatedComponent = componentRepository.save(existingComponent);
+        publishFormChange(FormDeltaEvent.componentUpdated(formIdOf(existingComponent.getPage()), updatedComponent));
         return new ResponseEntity<>(updatedComponent, HttpStatus.OK);
     }
 
     @DeleteMapping("/components/{componentId}")
+    @Transactional
     public ResponseEntity<HttpStatus> deleteComponent(@PathVariable Long componentId) {
-        if (!componentRepository.existsById(componentId)) {
-            throw new ComponentNotFoundException("Component not found with id: " + componentId);
-        }
-        componentRepository.deleteById(componentId); // orphanRemoval should handle child components
+        Component component = componentRepository.findById(componentId)
+                .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
+        Long formId = formIdOf(component.getPage());
+        bulkDeleteService.deleteComponentSubtree(component);
+        publishFormChange(FormDeltaEvent.componentDeleted(formId, componentId));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     // ===== NEW: MOVE AND REORDER OPERATIONS =====
 
     @PutMapping("/components/{componentId}/move")
+    @Transactional
     public ResponseEntity<Component> moveComponent(@PathVariable Long componentId, @RequestBody Map<String, Object> moveData) {
         Component component = componentRepository.findById(componentId)
                 .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
+        Long sourceFormId = formIdOf(component.getPage());
+        String oldDescendantPathPrefix = component.getDescendantPathPrefix();
+        int oldDepth = component.getDepth();
 
         // Get target page and parent component from request
         Long targetPageId = moveData.get("targetPageId") != null ? 
@@ -121,6 +215,9 @@ public class ComponentController {
         if (targetParentComponentId != null) {
             Component targetParent = componentRepository.findById(targetParentComponentId)
                     .orElseThrow(() -> new ComponentNotFoundException("Target parent component not found with id: " + targetParentComponentId));
+            if (component.isSelfOrAncestorOf(targetParent)) {
+                throw new InvalidComponentMoveException("Cannot move component " + componentId + " into itself or one of its descendants");
+            }
             component.setParentComponent(targetParent);
             // Also ensure it's on the same page as the parent
             component.setPage(targetParent.getPage());
@@ -129,11 +226,57 @@ public class ComponentController {
             component.setParentComponent(null);
         }
 
+        component.updatePath();
+        // Place it among its new siblings (or after them), usually by writing its own orderIndex only
+        List<Long> renumberedIds = placeInNewContainer(component, moveData);
         Component movedComponent = componentRepository.save(component);
+        // Descendants follow their root to the new path and page in one statement. Skipped for leaves:
+        // a bulk update empties every cache region of the components it touches
+        if (!movedComponent.getChildComponents().isEmpty()) {
+            componentRepository.moveDescendants(oldDescendantPathPrefix, movedComponent.getDescendantPathPrefix(),
+                    movedComponent.getDepth() - oldDepth, movedComponent.getPage());
+        }
+        Long targetFormId = formIdOf(movedComponent.getPage());
+        if (targetFormId == null || targetFormId.equals(sourceFormId)) {
+            publishFormChange(FormDeltaEvent.componentMoved(sourceFormId, movedComponent));
+        } else {
+            // Seen from either form, a move between forms is a delete and a create
+            publishFormChange(FormDeltaEvent.componentDeleted(sourceFormId, componentId));
+            Component parent = movedComponent.getParentComponent();
+            publishFormChange(FormDeltaEvent.componentsCreated(targetFormId, movedComponent.getPage().getId(),
+                    parent != null ? parent.getId() : null, List.of(movedComponent)));
+        }
+        if (!renumberedIds.isEmpty()) {
+            publishFormChange(siblingsReordered(targetFormId, movedComponent, renumberedIds));
+        }
         return new ResponseEntity<>(movedComponent, HttpStatus.OK);
     }
 
+    /**
+     * Moves one component among its siblings, right after {@code afterId} or right before
+     * {@code beforeId}. Only the component's own row is written unless its neighbours have no
+     * orderIndex left between them (see SiblingOrderService).
+     */
+    @PutMapping("/components/{componentId}/position")
+    @QueryBudget(9)
+    @Transactional
+    public ResponseEntity<Component> positionComponent(@PathVariable Long componentId, @RequestBody Map<String, Long> positionData) {
+        Component component = componentRepository.findById(componentId)
+                .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
+
+        List<Long> renumberedIds = siblingOrderService.placeComponent(component,
+                positionData.get("afterId"), positionData.get("beforeId"));
+
+        Long formId = formIdOf(component.getPage());
+        publishFormChange(renumberedIds.isEmpty()
+                ? FormDeltaEvent.componentMoved(formId, component)
+                : siblingsReordered(formId, component, renumberedIds));
+        return new ResponseEntity<>(component, HttpStatus.OK);
+    }
+
     @PutMapping("/pages/{pageId}/components/reorder")
+    @QueryBudget(9)
+    @Transactional
     public ResponseEntity<List<Component>> reorderComponentsInPage(@PathVariable Long pageId, @RequestBody Map<String, List<Long>> reorderData) {
         if (!pageRepository.existsById(pageId)) {
             throw new PageNotFoundException("Page not found with id: " + pageId);
@@ -144,25 +287,17 @@ public class ComponentController {
             throw new IllegalArgumentException("componentIds array is required");
         }
 
-        // Update the orderIndex for each component based on the new order
-        for (int i = 0; i < componentIds.size(); i++) {
-            Long componentId = componentIds.get(i);
-            Component component = componentRepository.findById(componentId)
-                    .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
-            component.setOrderIndex(i);
-            componentRepository.save(component);
-        }
-
-        // Return the components in the new order
-        List<Component> reorderedComponents = componentIds.stream()
-                .map(id -> componentRepository.findById(id)
-                        .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + id)))
-                .toList();
+        List<Component> reorderedComponents = applyOrder(componentIds);
+        siblingOrderService.evictRootComponentOrder(pageId);
 
+        publishFormChange(FormDeltaEvent.componentsReordered(pageRepository.findFormIdById(pageId).orElse(null),
+                pageId, null, componentIds));
         return new ResponseEntity<>(reorderedComponents, HttpStatus.OK);
     }
 
     @PutMapping("/components/{parentComponentId}/components/reorder")
+    @QueryBudget(9)
+    @Transactional
     public ResponseEntity<List<Component>> reorderNestedComponents(@PathVariable Long parentComponentId, @RequestBody Map<String, List<Long>> reorderData) {
         if (!componentRepository.existsById(parentComponentId)) {
             throw new ComponentNotFoundException("Parent component not found with id: " + parentComponentId);
@@ -173,21 +308,73 @@ public class ComponentController {
             throw new IllegalArgumentException("componentIds array is required");
         }
 
-        // Update the orderIndex for each nested component based on the new order
+        List<Component> reorderedComponents = applyOrder(componentIds);
+        siblingOrderService.evictChildComponentOrder(parentComponentId);
+
+        publishFormChange(FormDeltaEvent.componentsReordered(componentRepository.findFormIdById(parentComponentId).orElse(null),
+                null, parentComponentId, componentIds));
+        return new ResponseEntity<>(reorderedComponents, HttpStatus.OK);
+    }
+
+    private List<Long> placeInNewContainer(Component component, Map<String, Object> moveData) {
+        Long afterId = moveData.get("afterId") != null ? Long.valueOf(moveData.get("afterId").toString()) : null;
+        Long beforeId = moveData.get("beforeId") != null ? Long.valueOf(moveData.get("beforeId").toString()) : null;
+        if (afterId != null || beforeId != null) {
+            return siblingOrderService.placeComponent(component, afterId, beforeId);
+        }
+        Component parent = component.getParentComponent();
+        component.setOrderIndex(parent != null
+                ? siblingOrderService.nextChildComponentOrderIndex(parent.getId())
+                : siblingOrderService.nextRootComponentOrderIndex(component.getPage() != null ? component.getPage().getId() : null));
+        // A move within the same container changes no owner, so the cached order is not evicted for us
+        siblingOrderService.evictComponentOrder(component);
+        return List.of();
+    }
+
+    private FormDeltaEvent siblingsReordered(Long formId, Component component, List<Long> componentIds) {
+        Component parent = component.getParentComponent();
+        return parent != null
+                ? FormDeltaEvent.componentsReordered(formId, null, parent.getId(), componentIds)
+                : FormDeltaEvent.componentsReordered(formId, component.getPage().getId(), null, componentIds);
+    }
+
+    /**
+     * Loads all components in one query and sets their orderIndex to their position in the list,
+     * {@link SiblingOrderService#GAP} apart.
+     * The updates are flushed as a single JDBC batch when the surrounding transaction commits, and
+     * the returned (already loaded) components are used to build the response.
+     */
+    private List<Component> applyOrder(List<Long> componentIds) {
+        Map<Long, Component> componentsById = componentRepository.findAllById(componentIds).stream()
+                .collect(Collectors.toMap(Component::getId, Function.identity()));
+
+        List<Component> orderedComponents = new ArrayList<>(componentIds.size());
         for (int i = 0; i < componentIds.size(); i++) {
             Long componentId = componentIds.get(i);
-            Component component = componentRepository.findById(componentId)
-                    .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + componentId));
-            component.setOrderIndex(i);
-            componentRepository.save(component);
+            Component component = componentsById.get(componentId);
+            if (component == null) {
+                throw new ComponentNotFoundException("Component not found with id: " + componentId);
+            }
+            component.setOrderIndex(i * SiblingOrderService.GAP);
+            orderedComponents.add(component);
         }
+        return orderedComponents;
+    }
 
-        // Return the components in the new order
-        List<Component> reorderedComponents = componentIds.stream()
-                .map(id -> componentRepository.findById(id)
-                        .orElseThrow(() -> new ComponentNotFoundException("Component not found with id: " + id)))
-                .toList();
+    private static void requireComponentType(Component component) {
+        if (component.getComponentType() == null || component.getComponentType().isBlank()) {
+            throw new InvalidComponentTypeException("componentType is required");
+        }
+    }
 
-        return new ResponseEntity<>(reorderedComponents, HttpStatus.OK);
+    private Long formIdOf(Page page) {
+        return page != null && page.getForm() != null ? page.getForm().getId() : null;
+    }
+
+    private void publishFormChange(FormDeltaEvent delta) {
+        if (delta.formId() != null) {
+            eventPublisher.publishEvent(delta);
+            eventPublisher.publishEvent(new FormChangedEvent(delta.formId()));
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.models.Form;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Strong ETags derived from the version of the form a resource belongs to. Any change to a form,
+ * its pages or its components bumps that version, so it validates every representation under it.
+ * The form id is part of the tag because a component can move to another form.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @return the ETag, or {@code null} when the form (or its version) is unknown
+     */
+    static String of(Long formId, Long version) {
+        return formId != null && version != null ? "\"" + formId + "." + version + "\"" : null;
+    }
+
+    static String of(Form form) {
+        return form != null ? of(form.getId(), form.getVersion()) : null;
+    }
+
+    /**
+     * @return a 304 response if the request's If-None-Match matches {@code etag}, otherwise {@code null}
+     */
+    static <T> ResponseEntity<T> notModified(WebRequest webRequest, String etag) {
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return null;
+    }
+
+    static <T> ResponseEntity<T> ok(T body, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        return builder.body(body);
+    }
+}
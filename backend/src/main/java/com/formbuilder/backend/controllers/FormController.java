@@ -1,25 +1,86 @@
 package com.formbuilder.backend.controllers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.cache.FormSnapshotCache;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.events.FormDeltaEvent;
 import com.formbuilder.backend.exceptions.FormNotFoundException;
+import com.formbuilder.backend.metrics.QueryBudget;
+import com.formbuilder.backend.metrics.RequestMetrics;
 import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormChange;
+import com.formbuilder.backend.models.FormSummary;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
 import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.CopyProgressListener;
+import com.formbuilder.backend.services.FormCopyService;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import com.formbuilder.backend.services.FormExportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/forms")
 public class FormController {
 
+    static final int MAX_SUMMARY_PAGE_SIZE = 200;
+    static final int MAX_CHANGES = 1000;
+
     @Autowired
     private FormRepository formRepository;
 
+    @Autowired
+    private FormChangeRepository formChangeRepository;
+
+    @Autowired
+    private FormSnapshotCache formSnapshotCache;
+
+    @Autowired
+    private FormDocumentRepository formDocumentRepository;
+
+    @Autowired
+    private FormDocumentProjector formDocumentProjector;
+
+    @Autowired
+    private FormCopyService formCopyService;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private FormExportService formExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @PostMapping("/")
+    @Transactional
     public ResponseEntity<Form> createForm(@RequestBody Form form) {
         Form savedForm = formRepository.save(form);
+        eventPublisher.publishEvent(new FormChangedEvent(savedForm.getId()));
         return new ResponseEntity<>(savedForm, HttpStatus.CREATED);
     }
 
@@ -29,14 +90,143 @@ public class FormController {
         return new ResponseEntity<>(forms, HttpStatus.OK);
     }
 
+    /**
+     * Lists forms without their pages and components, in id order. Pass the returned
+     * {@code nextAfter} back as {@code after} to get the next page; it is {@code null} on the last page.
+     */
+    @GetMapping("/summaries")
+    @QueryBudget(1)
+    public ResponseEntity<Map<String, Object>> getFormSummaries(@RequestParam(required = false) Long after,
+                                                                @RequestParam(defaultValue = "50") int size,
+                                                                @RequestParam(required = false) String namePrefix) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SUMMARY_PAGE_SIZE));
+        String prefix = namePrefix == null || namePrefix.isEmpty() ? null : escapeLike(namePrefix);
+        List<FormSummary> summaries = formRepository.findSummaries(after != null ? after : 0L, prefix, PageRequest.ofSize(pageSize));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("items", summaries);
+        body.put("nextAfter", summaries.size() == pageSize ? summaries.get(pageSize - 1).id() : null);
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * Streams every form with its full hierarchy as NDJSON (one form per line). Unlike
+     * {@link #getAllForms()} this never holds more than one form in memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportForms() {
+        StreamingResponseBody body = formExportService::exportAll;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{formId}")
-    public ResponseEntity<Form> getFormById(@PathVariable Long formId) {
-        Form form = formRepository.findById(formId)
+    @QueryBudget(4)
+    public ResponseEntity<byte[]> getFormById(@PathVariable Long formId, WebRequest webRequest) throws JsonProcessingException {
+        // Cache hits skip both the database and Jackson, and answer conditional requests for free
+        FormSnapshot snapshot = formSnapshotCache.getIfPresent(formId);
+        if (snapshot == null) {
+            // Revalidation against the version column alone, without loading the tree
+            if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+                Long version = formRepository.findVersionById(formId)
+                        .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+                ResponseEntity<byte[]> notModified = ETags.notModified(webRequest, ETags.of(formId, version));
+                if (notModified != null) {
+                    return notModified;
+                }
+            }
+
+            long readStamp = formSnapshotCache.readStamp();
+            Form form = formRepository.findTreeById(formId)
+                    .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+            long serializationStarted = System.nanoTime();
+            byte[] json = objectMapper.writeValueAsBytes(form);
+            RequestMetrics.recordSerialization(System.nanoTime() - serializationStarted);
+            // The ETag comes from the same read as the body, never from a separate query
+            snapshot = new FormSnapshot(form.getVersion(), json);
+            formSnapshotCache.put(formId, snapshot, readStamp);
+        } else {
+            ResponseEntity<byte[]> notModified = ETags.notModified(webRequest, ETags.of(formId, snapshot.version()));
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+        String etag = ETags.of(formId, snapshot.version());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(snapshot.json());
+    }
+
+    /**
+     * The form's whole tree for rendering, in the same JSON as {@link #getFormById}, served from the
+     * document {@link FormDocumentProjector} stored after the form last changed: one single-row
+     * read, no entities and no serialization. The document is written in the background, so it can
+     * trail a change by one projection; its ETag is the version it was read at.
+     * <p>
+     * Forms that have no document yet (e.g. unchanged since the document store was added) take the
+     * cold path: the tree is loaded and serialized for this request and the projection is scheduled.
+     */
+    @GetMapping("/{formId}/render")
+    @QueryBudget(value = 1, coldPath = 4)
+    public ResponseEntity<byte[]> renderForm(@PathVariable Long formId, WebRequest webRequest) throws JsonProcessingException {
+        FormSnapshot document = formDocumentRepository.findSnapshotByFormId(formId).orElse(null);
+        if (document == null) {
+            RequestMetrics.markColdPath();
+            Form form = formRepository.findTreeById(formId)
+                    .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+            long serializationStarted = System.nanoTime();
+            document = new FormSnapshot(form.getVersion(), objectMapper.writeValueAsBytes(form));
+            RequestMetrics.recordSerialization(System.nanoTime() - serializationStarted);
+            formDocumentProjector.schedule(formId);
+        }
+        String etag = ETags.of(formId, document.version());
+        ResponseEntity<byte[]> notModified = ETags.notModified(webRequest, etag);
+        if (notModified != null) {
+            return notModified;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(document.json());
+    }
+
+    /**
+     * Changes made to the form since version {@code since}, in the order they were committed, along
+     * with the version to pass as {@code since} next time. When the client is too far behind (or
+     * ahead, e.g. after the database was reset) {@code reset} is {@code true} and it should reload
+     * the whole form instead.
+     */
+    @GetMapping("/{formId}/changes")
+    @QueryBudget(2)
+    public ResponseEntity<Map<String, Object>> getFormChanges(@PathVariable Long formId, @RequestParam long since) {
+        // Read the version first: entries committed after this read are still returned below, and
+        // the version handed back is raised to match them
+        long version = formRepository.findVersionById(formId)
                 .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
-        return new ResponseEntity<>(form, HttpStatus.OK);
+
+        List<FormChange> changes = since > version ? List.of()
+                : formChangeRepository.findSince(formId, since, PageRequest.ofSize(MAX_CHANGES + 1));
+        boolean reset = since > version || changes.size() > MAX_CHANGES;
+        if (!reset && !changes.isEmpty()) {
+            version = Math.max(version, changes.get(changes.size() - 1).getSeq());
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("formId", formId);
+        body.put("version", version);
+        body.put("reset", reset);
+        body.put("changes", reset ? List.of() : changes);
+        return new ResponseEntity<>(body, HttpStatus.OK);
     }
 
     @PutMapping("/{formId}")
+    @Transactional
     public ResponseEntity<Form> updateForm(@PathVariable Long formId, @RequestBody Form formDetails) {
         Form existingForm = formRepository.findById(formId)
                 .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
@@ -49,15 +239,84 @@ public class FormController {
 
 
         Form updatedForm = formRepository.save(existingForm);
+        eventPublisher.publishEvent(FormDeltaEvent.formUpdated(updatedForm));
+        eventPublisher.publishEvent(new FormChangedEvent(formId));
         return new ResponseEntity<>(updatedForm, HttpStatus.OK);
     }
 
     @DeleteMapping("/{formId}")
+    @Transactional
     public ResponseEntity<HttpStatus> deleteForm(@PathVariable Long formId) {
         if (!formRepository.existsById(formId)) {
             throw new FormNotFoundException("Form not found with id: " + formId);
         }
-        formRepository.deleteById(formId);
+        bulkDeleteService.deleteForm(formId);
+        eventPublisher.publishEvent(new FormChangedEvent(formId));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    // ===== DEEP COPY =====
+
+    @PostMapping("/{formId}/copy")
+    public ResponseEntity<Form> copyForm(@PathVariable Long formId, @RequestBody(required = false) Map<String, String> copyData) {
+        Long copyId = formCopyService.copyForm(formId, copyData != null ? copyData.get("name") : null, CopyProgressListener.NONE);
+        eventPublisher.publishEvent(new FormChangedEvent(copyId));
+        Form copy = formRepository.findTreeById(copyId)
+                .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + copyId));
+        return new ResponseEntity<>(copy, HttpStatus.CREATED);
+    }
+
+    /**
+     * Same as {@link #copyForm} but streams one NDJSON progress line per flushed batch of
+     * components, followed by a final line carrying the id of the new form. The copy only commits
+     * with that {@code complete} line; if it fails, the last line is an {@code error} one instead
+     * and nothing was copied.
+     */
+    @PostMapping(value = "/{formId}/copy", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> copyFormWithProgress(@PathVariable Long formId, @RequestBody(required = false) Map<String, String> copyData) {
+        if (!formRepository.existsById(formId)) {
+            throw new FormNotFoundException("Form not found with id: " + formId);
+        }
+        String name = copyData != null ? copyData.get("name") : null;
+
+        StreamingResponseBody body = outputStream -> {
+            Long copyId;
+            try {
+                copyId = formCopyService.copyForm(formId, name, (copiedComponents, totalComponents) -> {
+                    Map<String, Object> progress = new LinkedHashMap<>();
+                    progress.put("type", "progress");
+                    progress.put("copiedComponents", copiedComponents);
+                    progress.put("totalComponents", totalComponents);
+                    writeLine(outputStream, progress);
+                });
+            } catch (UncheckedIOException e) {
+                // The client went away, there is nobody left to tell
+                throw e;
+            } catch (RuntimeException e) {
+                // The 201 is long sent, so the failure can only be reported in the stream itself
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("type", "error");
+                error.put("message", "An unexpected error occurred: " + e.getMessage());
+                writeLine(outputStream, error);
+                return;
+            }
+            eventPublisher.publishEvent(new FormChangedEvent(copyId));
+
+            Map<String, Object> complete = new LinkedHashMap<>();
+            complete.put("type", "complete");
+            complete.put("formId", copyId);
+            writeLine(outputStream, complete);
+        };
+        return ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.events.FormEventBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/forms")
+public class FormEventsController {
+
+    @Autowired
+    private FormEventBroadcaster formEventBroadcaster;
+
+    /**
+     * Server-Sent Events stream of the form's change log: a {@code change} event per entry (same
+     * JSON as in {@code GET /api/forms/{formId}/changes}, id = {@code seq}), or a {@code reset}
+     * event when the client fell too far behind and should reload the form.
+     */
+    @GetMapping(value = "/{formId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFormEvents(@PathVariable Long formId,
+                                                       @RequestParam(required = false) Long since,
+                                                       @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = formEventBroadcaster.subscribe(formId, lastEventId != null ? lastEventId : since);
+        return new ResponseEntity<>(emitter, HttpStatus.OK);
+    }
+}
@@ -1,18 +1,31 @@
 package com.formbuilder.backend.controllers;
 
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.events.FormDeltaEvent;
 import com.formbuilder.backend.exceptions.FormNotFoundException;
 import com.formbuilder.backend.exceptions.PageNotFoundException;
+import com.formbuilder.backend.metrics.QueryBudget;
 import com.formbuilder.backend.models.Form;
 import com.formbuilder.backend.models.Page;
 import com.formbuilder.backend.repositories.FormRepository;
 import com.formbuilder.backend.repositories.PageRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.CopyProgressListener;
+import com.formbuilder.backend.services.FormCopyService;
+import com.formbuilder.backend.services.SiblingOrderService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -24,12 +37,29 @@ public class PageController {
     @Autowired
     private FormRepository formRepository;
 
+    @Autowired
+    private FormCopyService formCopyService;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private SiblingOrderService siblingOrderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @PostMapping("/forms/{formId}/pages")
+    @Transactional
     public ResponseEntity<Page> createPage(@PathVariable Long formId, @RequestBody Page page) {
         Form form = formRepository.findById(formId)
                 .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+        if (!page.hasOrderIndex()) {
+            page.setOrderIndex(siblingOrderService.nextPageOrderIndex(formId));
+        }
         page.setForm(form);
         Page savedPage = pageRepository.save(page);
+        publishFormChange(FormDeltaEvent.pageCreated(formId, savedPage));
         return new ResponseEntity<>(savedPage, HttpStatus.CREATED);
     }
 
@@ -43,13 +73,17 @@ public class PageController {
     }
 
     @GetMapping("/pages/{pageId}")
-    public ResponseEntity<Page> getPageById(@PathVariable Long pageId) {
+    public ResponseEntity<Page> getPageById(@PathVariable Long pageId, WebRequest webRequest) {
         Page page = pageRepository.findById(pageId)
                 .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
-        return new ResponseEntity<>(page, HttpStatus.OK);
+        // Only the page and form rows are needed to answer 304; components are never touched
+        String etag = ETags.of(page.getForm());
+        ResponseEntity<Page> notModified = ETags.notModified(webRequest, etag);
+        return notModified != null ? notModified : ETags.ok(page, etag);
     }
 
     @PutMapping("/pages/{pageId}")
+    @Transactional
     public ResponseEntity<Page> updatePage(@PathVariable Long pageId, @RequestBody Page pageDetails) {
         Page existingPage = pageRepository.findById(pageId)
                 .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
@@ -58,21 +92,40 @@ public class PageController {
         // existingPage.setComponents(pageDetails.getComponents()); // If updating components directly
 
         Page updatedPage = pageRepository.save(existingPage);
+        publishFormChange(FormDeltaEvent.pageUpdated(formIdOf(existingPage), updatedPage));
         return new ResponseEntity<>(updatedPage, HttpStatus.OK);
     }
 
     @DeleteMapping("/pages/{pageId}")
+    @Transactional
     public ResponseEntity<HttpStatus> deletePage(@PathVariable Long pageId) {
         if (!pageRepository.existsById(pageId)) {
             throw new PageNotFoundException("Page not found with id: " + pageId);
         }
-        pageRepository.deleteById(pageId); // orphanRemoval=true should handle components
+        Long formId = pageRepository.findFormIdById(pageId).orElse(null);
+        bulkDeleteService.deletePage(pageId);
+        publishFormChange(FormDeltaEvent.pageDeleted(formId, pageId));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @PostMapping("/pages/{pageId}/copy")
+    public ResponseEntity<Page> copyPage(@PathVariable Long pageId, @RequestBody(required = false) Map<String, Object> copyData) {
+        Long targetFormId = copyData != null && copyData.get("targetFormId") != null ?
+            Long.valueOf(copyData.get("targetFormId").toString()) : null;
+        String name = copyData != null && copyData.get("name") != null ? copyData.get("name").toString() : null;
+
+        Long copyId = formCopyService.copyPage(pageId, targetFormId, name, CopyProgressListener.NONE);
+        Page copy = pageRepository.findTreeById(copyId)
+                .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + copyId));
+        publishFormChange(FormDeltaEvent.pageCreated(pageRepository.findFormIdById(copyId).orElse(null), copy));
+        return new ResponseEntity<>(copy, HttpStatus.CREATED);
+    }
+
     // ===== REORDER OPERATION (SIMPLIFIED - NO LONGER BASED ON PAGE NUMBERS) =====
 
     @PutMapping("/forms/{formId}/pages/reorder")
+    @QueryBudget(9)
+    @Transactional
     public ResponseEntity<List<Page>> reorderPages(@PathVariable Long formId, @RequestBody Map<String, List<Long>> reorderData) {
         if (!formRepository.existsById(formId)) {
             throw new FormNotFoundException("Form not found with id: " + formId);
@@ -83,21 +136,55 @@ public class PageController {
             throw new IllegalArgumentException("pageIds array is required");
         }
 
-        // Update the orderIndex for each page based on the new order
+        // Load every page in one query; the new indexes are flushed as one JDBC batch on commit
+        Map<Long, Page> pagesById = pageRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Page::getId, Function.identity()));
+
+        List<Page> reorderedPages = new ArrayList<>(pageIds.size());
         for (int i = 0; i < pageIds.size(); i++) {
             Long pageId = pageIds.get(i);
-            Page page = pageRepository.findById(pageId)
-                    .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
-            page.setOrderIndex(i);
-            pageRepository.save(page);
+            Page page = pagesById.get(pageId);
+            if (page == null) {
+                throw new PageNotFoundException("Page not found with id: " + pageId);
+            }
+            page.setOrderIndex(i * SiblingOrderService.GAP);
+            reorderedPages.add(page);
         }
+        siblingOrderService.evictPageOrder(formId);
 
-        // Return the pages in the new order
-        List<Page> reorderedPages = pageIds.stream()
-                .map(id -> pageRepository.findById(id)
-                        .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + id)))
-                .toList();
-
+        publishFormChange(FormDeltaEvent.pagesReordered(formId, pageIds));
         return new ResponseEntity<>(reorderedPages, HttpStatus.OK);
     }
+
+    /**
+     * Moves one page among the pages of its form, right after {@code afterId} or right before
+     * {@code beforeId}. Only the page's own row is written unless its neighbours have no
+     * orderIndex left between them (see SiblingOrderService).
+     */
+    @PutMapping("/pages/{pageId}/position")
+    @QueryBudget(9)
+    @Transactional
+    public ResponseEntity<Page> positionPage(@PathVariable Long pageId, @RequestBody Map<String, Long> positionData) {
+        Page page = pageRepository.findById(pageId)
+                .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
+
+        List<Long> renumberedIds = siblingOrderService.placePage(page, positionData.get("afterId"), positionData.get("beforeId"));
+
+        Long formId = formIdOf(page);
+        publishFormChange(renumberedIds.isEmpty()
+                ? FormDeltaEvent.pageUpdated(formId, page)
+                : FormDeltaEvent.pagesReordered(formId, renumberedIds));
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    private Long formIdOf(Page page) {
+        return page.getForm() != null ? page.getForm().getId() : null;
+    }
+
+    private void publishFormChange(FormDeltaEvent delta) {
+        if (delta.formId() != null) {
+            eventPublisher.publishEvent(delta);
+            eventPublisher.publishEvent(new FormChangedEvent(delta.formId()));
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.formbuilder.backend.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.FormChange;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends every {@link FormDeltaEvent} to the form's change log. Entries are written without a
+ * sequence number; {@link FormChangeTracker} assigns it when the change is committed.
+ */
+@Component
+public class FormChangeLog {
+
+    @Autowired
+    private FormChangeRepository formChangeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Runs synchronously, so the entry is written in the same transaction as the change itself when
+     * there is one, and data is serialized while lazy associations can still be loaded.
+     */
+    @EventListener
+    public void onFormDelta(FormDeltaEvent event) {
+        if (event.formId() == null) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event.data());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write " + event.type() + " change of form " + event.formId(), e);
+        }
+        formChangeRepository.save(new FormChange(event.formId(), event.type(), event.entityId(), data));
+    }
+}
@@ -0,0 +1,50 @@
+package com.formbuilder.backend.events;
+
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Keeps {@code forms.version} and {@code forms.last_modified} current when a page or component of
+ * a form changes, so that ETags and listings can rely on the form row alone. Also stamps the
+ * form's pending change log entries with the new version.
+ */
+@Component
+public class FormChangeTracker {
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private FormChangeRepository formChangeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Runs inside the surrounding transaction just before it commits, or on its own transaction
+     * when the change was made outside of one. Ordered first so that the form is touched before
+     * other listeners (e.g. the snapshot cache) react to the change.
+     * <p>
+     * Bumping the version locks the form row until commit, so concurrent changes to one form are
+     * stamped in commit order and a client never sees a version before the entries carrying it.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFormChanged(FormChangedEvent event) {
+        if (event.formId() != null) {
+            transactionTemplate.executeWithoutResult(status -> {
+                formRepository.touch(event.formId(), Instant.now());
+                formChangeRepository.assignSequence(event.formId());
+            });
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.formbuilder.backend.events;
+
+/**
+ * Published by the controllers whenever a form, one of its pages or one of its components is
+ * created, updated, moved, reordered or deleted.
+ */
+public record FormChangedEvent(Long formId) {
+}
@@ -0,0 +1,99 @@
+package com.formbuilder.backend.events;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormChange;
+import com.formbuilder.backend.models.Page;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes what changed in a form, for its change log. Published by the controllers right before
+ * the matching {@link FormChangedEvent}. {@code data} only carries what a client needs to apply the
+ * change to its copy of the form: whole subtrees for creations, single fields otherwise.
+ */
+public record FormDeltaEvent(Long formId, FormChange.Type type, Long entityId, Map<String, Object> data) {
+
+    public static FormDeltaEvent formUpdated(Form form) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("name", form.getName());
+        data.put("description", form.getDescription());
+        return new FormDeltaEvent(form.getId(), FormChange.Type.FORM_UPDATED, form.getId(), data);
+    }
+
+    public static FormDeltaEvent pageCreated(Long formId, Page page) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("page", page);
+        return new FormDeltaEvent(formId, FormChange.Type.PAGE_CREATED, page.getId(), data);
+    }
+
+    public static FormDeltaEvent pageUpdated(Long formId, Page page) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", page.getId());
+        data.put("name", page.getName());
+        data.put("orderIndex", page.getOrderIndex());
+        return new FormDeltaEvent(formId, FormChange.Type.PAGE_UPDATED, page.getId(), data);
+    }
+
+    public static FormDeltaEvent pageDeleted(Long formId, Long pageId) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", pageId);
+        return new FormDeltaEvent(formId, FormChange.Type.PAGE_DELETED, pageId, data);
+    }
+
+    public static FormDeltaEvent pagesReordered(Long formId, List<Long> pageIds) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("pageIds", pageIds);
+        return new FormDeltaEvent(formId, FormChange.Type.PAGES_REORDERED, null, data);
+    }
+
+    /**
+     * @param components root(s) of the created subtrees, all in the same page and under the same parent
+     */
+    public static FormDeltaEvent componentsCreated(Long formId, Long pageId, Long parentComponentId, List<Component> components) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("pageId", pageId);
+        data.put("parentComponentId", parentComponentId);
+        data.put("components", components);
+        Long entityId = components.size() == 1 ? components.get(0).getId() : null;
+        return new FormDeltaEvent(formId, FormChange.Type.COMPONENTS_CREATED, entityId, data);
+    }
+
+    public static FormDeltaEvent componentUpdated(Long formId, Component component) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", component.getId());
+        data.put("componentType", component.getComponentType());
+        data.put("label", component.getLabel());
+        data.put("attributes", component.getAttributes());
+        return new FormDeltaEvent(formId, FormChange.Type.COMPONENT_UPDATED, component.getId(), data);
+    }
+
+    public static FormDeltaEvent componentMoved(Long formId, Component component) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", component.getId());
+        data.put("pageId", component.getPage() != null ? component.getPage().getId() : null);
+        data.put("parentComponentId", component.getParentComponent() != null ? component.getParentComponent().getId() : null);
+        data.put("orderIndex", component.getOrderIndex());
+        return new FormDeltaEvent(formId, FormChange.Type.COMPONENT_MOVED, component.getId(), data);
+    }
+
+    public static FormDeltaEvent componentDeleted(Long formId, Long componentId) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", componentId);
+        return new FormDeltaEvent(formId, FormChange.Type.COMPONENT_DELETED, componentId, data);
+    }
+
+    /**
+     * Exactly one of {@code pageId} (root components of a page) and {@code parentComponentId}
+     * (children of a component) is set.
+     */
+    public static FormDeltaEvent componentsReordered(Long formId, Long pageId, Long parentComponentId, List<Long> componentIds) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("pageId", pageId);
+        data.put("parentComponentId", parentComponentId);
+        data.put("componentIds", componentIds);
+        return new FormDeltaEvent(formId, FormChange.Type.COMPONENTS_REORDERED, null, data);
+    }
+}
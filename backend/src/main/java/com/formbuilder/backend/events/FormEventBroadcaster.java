@@ -0,0 +1,273 @@
+package com.formbuilder.backend.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.exceptions.FormNotFoundException;
+import com.formbuilder.backend.models.FormChange;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes a form's change log entries to the editors that have it open, as Server-Sent Events.
+ * <p>
+ * Each commit that changes a form schedules one read of its new log entries, shared by all of the
+ * form's subscribers; commits arriving while that read is pending are picked up by it. Entries are
+ * serialized once and handed to every subscriber's bounded queue (see {@link FormEventSubscriber}).
+ * Connections hold no thread while idle: writes happen on a small fixed pool of sender threads,
+ * and a heartbeat comment is queued periodically so dead connections are noticed.
+ * <p>
+ * SSE event ids are the entries' {@code seq}, so a reconnecting {@code EventSource} resumes from
+ * where it left off through {@code Last-Event-ID}.
+ */
+@Component
+public class FormEventBroadcaster {
+
+    static final int MAX_CATCH_UP = 1000;
+
+    private final FormRepository formRepository;
+    private final FormChangeRepository formChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    public FormEventBroadcaster(FormRepository formRepository,
+                                FormChangeRepository formChangeRepository,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${formbuilder.events.queue-capacity:256}") int queueCapacity,
+                                @Value("${formbuilder.events.timeout:PT30M}") Duration timeout,
+                                @Value("${formbuilder.events.heartbeat-interval:PT25S}") Duration heartbeatInterval,
+                                @Value("${formbuilder.events.sender-threads:4}") int senderThreads) {
+        this.formRepository = formRepository;
+        this.formChangeRepository = formChangeRepository;
+        this.objectMapper = objectMapper;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("form-events-sender-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("form-events-heartbeat-"));
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("formbuilder.events.subscribers", this, FormEventBroadcaster::getSubscriberCount)
+                .description("Editors connected to a form's event stream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param since if set, entries after this version are sent first (e.g. from {@code Last-Event-ID})
+     */
+    public SseEmitter subscribe(Long formId, Long since) {
+        long version = formRepository.findVersionById(formId)
+                .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, senders, queueCapacity, resetEvent(formId));
+
+        while (true) {
+            Channel channel = channels.computeIfAbsent(formId, id -> new Channel(id, version));
+            channel.lock.lock();
+            try {
+                // The last subscriber may have left and removed the channel in the meantime
+                if (channels.get(formId) != channel) {
+                    continue;
+                }
+                if (since != null && since < channel.lastSeq) {
+                    catchUp(subscriber, formId, since, channel.lastSeq);
+                }
+                channel.subscribers.add(subscriber);
+            } finally {
+                channel.lock.unlock();
+            }
+            Runnable unsubscribe = () -> unsubscribe(channel, subscriber);
+            emitter.onCompletion(unsubscribe);
+            emitter.onTimeout(() -> {
+                unsubscribe.run();
+                // Ends the response normally; otherwise the timeout surfaces as an exception that
+                // error handlers try to answer on a stream that is already committed
+                emitter.complete();
+            });
+            emitter.onError(error -> unsubscribe.run());
+            return emitter;
+        }
+    }
+
+    /**
+     * Runs after the surrounding transaction commits (and after {@link FormChangeTracker} stamped
+     * the new entries), or immediately when the change was made outside of a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFormChanged(FormChangedEvent event) {
+        Channel channel = event.formId() != null ? channels.get(event.formId()) : null;
+        if (channel == null) {
+            return;
+        }
+        channel.lock.lock();
+        try {
+            if (channel.publishPending) {
+                return;
+            }
+            channel.publishPending = true;
+        } finally {
+            channel.lock.unlock();
+        }
+        senders.execute(() -> publish(channel));
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.getEmitter().complete();
+        }));
+        channels.clear();
+    }
+
+    private void publish(Channel channel) {
+        channel.lock.lock();
+        try {
+            // Commits from here on schedule another run
+            channel.publishPending = false;
+            if (channel.subscribers.isEmpty()) {
+                return;
+            }
+            List<FormChange> changes = formChangeRepository.findSince(channel.formId, channel.lastSeq, PageRequest.ofSize(MAX_CATCH_UP));
+            List<FormEventSubscriber.Event> events = new ArrayList<>(changes.size());
+            for (FormChange change : changes) {
+                events.add(toEvent(change));
+                channel.lastSeq = change.getSeq();
+            }
+            for (FormEventSubscriber subscriber : channel.subscribers) {
+                events.forEach(subscriber::offer);
+            }
+            if (changes.size() == MAX_CATCH_UP) {
+                // More left over than any client would want to replay; pick them up on the next run
+                channel.publishPending = true;
+                senders.execute(() -> publish(channel));
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    private void catchUp(FormEventSubscriber subscriber, Long formId, long since, long upTo) {
+        List<FormChange> changes = formChangeRepository.findSince(formId, since, PageRequest.ofSize(MAX_CATCH_UP + 1));
+        if (changes.size() > MAX_CATCH_UP) {
+            subscriber.offer(resetEvent(formId));
+            return;
+        }
+        for (FormChange change : changes) {
+            if (change.getSeq() <= upTo) {
+                subscriber.offer(toEvent(change));
+            }
+        }
+    }
+
+    private void unsubscribe(Channel channel, FormEventSubscriber subscriber) {
+        subscriber.close();
+        channel.lock.lock();
+        try {
+            channel.subscribers.remove(subscriber);
+            if (channel.subscribers.isEmpty()) {
+                channels.remove(channel.formId, channel);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Channel channel : channels.values()) {
+            for (FormEventSubscriber subscriber : channel.subscribers) {
+                subscriber.offer(FormEventSubscriber.Event.HEARTBEAT);
+            }
+        }
+    }
+
+    private FormEventSubscriber.Event toEvent(FormChange change) {
+        try {
+            return new FormEventSubscriber.Event("change", String.valueOf(change.getSeq()),
+                    objectMapper.writeValueAsString(change), coalesceKey(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write change " + change.getSeq() + " of form " + change.getFormId(), e);
+        }
+    }
+
+    /**
+     * Reorders of the same page list, page or component supersede each other; nothing else does.
+     */
+    private String coalesceKey(FormChange change) throws JsonProcessingException {
+        if (change.getType() == FormChange.Type.PAGES_REORDERED) {
+            return "pages";
+        }
+        if (change.getType() == FormChange.Type.COMPONENTS_REORDERED) {
+            JsonNode data = objectMapper.readTree(change.getData());
+            return data.hasNonNull("parentComponentId")
+                    ? "component:" + data.get("parentComponentId").asLong()
+                    : "page:" + data.path("pageId").asLong();
+        }
+        return null;
+    }
+
+    private static FormEventSubscriber.Event resetEvent(Long formId) {
+        return new FormEventSubscriber.Event("reset", null, "{\"formId\":" + formId + "}", null);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Guarded by a {@link ReentrantLock} rather than {@code synchronized}: the lock is held across
+     * database reads, which would pin the carrier thread when running on virtual threads.
+     */
+    private static final class Channel {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final Long formId;
+        final Set<FormEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+        long lastSeq;
+        boolean publishPending;
+
+        Channel(Long formId, long lastSeq) {
+            this.formId = formId;
+            this.lastSeq = lastSeq;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.formbuilder.backend.events;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+/**
+ * One connected editor: a bounded queue of events waiting to be written to its {@link SseEmitter}.
+ * <p>
+ * Nothing runs for a subscriber while its queue is empty, so idle connections only cost their
+ * queue and emitter. When events arrive, a single drain task on the shared sender executor writes
+ * them out. If the client reads slower than events arrive and the queue fills up, the queued
+ * events are dropped in favour of one {@code reset} event telling it to reload the form.
+ * A pending reorder of a page or component is replaced by a newer reorder of the same one.
+ */
+final class FormEventSubscriber {
+
+    /**
+     * @param name        SSE event name, or {@code null} for a comment (heartbeat)
+     * @param coalesceKey events with the same non-null key replace each other while queued
+     */
+    record Event(String name, String id, String data, String coalesceKey) {
+
+        static final Event HEARTBEAT = new Event(null, null, "heartbeat", null);
+    }
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final int capacity;
+    private final Event reset;
+
+    // Guarded by this; the monitor is never held while writing to the client, so it cannot pin
+    // a carrier thread when running on virtual threads
+    private final Deque<Event> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+    private long dropped;
+
+    FormEventSubscriber(SseEmitter emitter, Executor sender, int capacity, Event reset) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.capacity = capacity;
+        this.reset = reset;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    void offer(Event event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (event == Event.HEARTBEAT && !queue.isEmpty()) {
+                return;
+            }
+            if (event.coalesceKey() != null) {
+                queue.removeIf(queued -> event.coalesceKey().equals(queued.coalesceKey()));
+            }
+            if (queue.size() >= capacity) {
+                dropped += queue.size();
+                queue.clear();
+                queue.add(reset);
+            }
+            queue.add(event);
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        sender.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            Event event;
+            synchronized (this) {
+                event = closed ? null : queue.poll();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(toSse(event));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized int queued() {
+        return queue.size();
+    }
+
+    synchronized long dropped() {
+        return dropped;
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(Event event) {
+        if (event.name() == null) {
+            return SseEmitter.event().comment(event.data());
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        return builder.name(event.name()).data(event.data(), MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,7 @@
+package com.formbuilder.backend.exceptions;
+
+public class InvalidComponentMoveException extends RuntimeException {
+    public InvalidComponentMoveException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.formbuilder.backend.exceptions;
+
+public class InvalidComponentTypeException extends RuntimeException {
+    public InvalidComponentTypeException(String message) {
+        super(message);
+    }
+}
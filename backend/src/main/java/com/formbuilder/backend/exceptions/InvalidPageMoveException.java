@@ -0,0 +1,7 @@
+package com.formbuilder.backend.exceptions;
+
+public class InvalidPageMoveException extends RuntimeException {
+    public InvalidPageMoveException(String message) {
+        super(message);
+    }
+}
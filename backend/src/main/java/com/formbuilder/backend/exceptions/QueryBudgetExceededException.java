@@ -0,0 +1,7 @@
+package com.formbuilder.backend.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
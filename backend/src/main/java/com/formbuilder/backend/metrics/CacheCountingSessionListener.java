@@ -0,0 +1,15 @@
+package com.formbuilder.backend.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Counts second-level cache hits and misses against the current request. Hibernate creates one
+ * instance per session from the class name, so this needs a public no-arg constructor.
+ */
+public class CacheCountingSessionListener implements SessionEventListener {
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestMetrics.secondLevelCacheGet(hit);
+    }
+}
@@ -0,0 +1,25 @@
+package com.formbuilder.backend.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a handler method may run per request, overriding
+ * {@code formbuilder.query-budget.default-max-statements}. Checked by {@link RequestMetricsFilter}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+
+    /**
+     * Budget for requests that called {@link RequestMetrics#markColdPath()}, e.g. the first read of
+     * something that is precomputed for later reads. Negative means the same as {@link #value()}.
+     */
+    int coldPath() default -1;
+}
@@ -0,0 +1,142 @@
+package com.formbuilder.backend.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counters for the HTTP request being handled on the current thread: SQL statements, entities
+ * loaded, collections initialized, second-level cache hits/misses and time spent in Jackson.
+ * <p>
+ * {@link RequestMetricsFilter} opens and closes the scope. Outside of a request (startup, tests
+ * without the filter, async streaming bodies) the static recording methods are no-ops.
+ */
+public final class RequestMetrics {
+
+    /**
+     * Request attribute holding the {@link RequestMetrics} of a request once it has been handled.
+     */
+    public static final String REQUEST_ATTRIBUTE = RequestMetrics.class.getName();
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int entitiesLoaded;
+    private int collectionsFetched;
+    private int secondLevelCacheHits;
+    private int secondLevelCacheMisses;
+    private long serializationNanos;
+    private boolean coldPath;
+
+    private RequestMetrics() {
+    }
+
+    static RequestMetrics begin() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the counters of the current request, or {@code null} outside of one
+     */
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    static void statementPrepared(String sql) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.statements++;
+            metrics.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void entityLoaded() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.entitiesLoaded++;
+        }
+    }
+
+    static void collectionFetched() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.collectionsFetched++;
+        }
+    }
+
+    static void secondLevelCacheGet(boolean hit) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            if (hit) {
+                metrics.secondLevelCacheHits++;
+            } else {
+                metrics.secondLevelCacheMisses++;
+            }
+        }
+    }
+
+    /**
+     * Adds time spent turning response objects into JSON.
+     */
+    public static void recordSerialization(long nanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.serializationNanos += nanos;
+        }
+    }
+
+    /**
+     * Marks the current request as having taken its handler's cold path, so that it is held to
+     * {@link QueryBudget#coldPath()} instead of the regular budget.
+     */
+    public static void markColdPath() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.coldPath = true;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return the SQL prepared most often in this request with its count, or {@code null} if none
+     * was; a statement repeated once per parent row is the typical N+1 signature
+     */
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getCollectionsFetched() {
+        return collectionsFetched;
+    }
+
+    public int getSecondLevelCacheHits() {
+        return secondLevelCacheHits;
+    }
+
+    public int getSecondLevelCacheMisses() {
+        return secondLevelCacheMisses;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    public boolean isColdPath() {
+        return coldPath;
+    }
+}
@@ -0,0 +1,133 @@
+package com.formbuilder.backend.metrics;
+
+import com.formbuilder.backend.exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@link RequestMetrics} of each request as histograms tagged with the HTTP method
+ * and the matched URI template (the same tags as {@code http.server.requests}).
+ * <p>
+ * Also enforces a SQL statement budget per request: the handler's {@link QueryBudget} (its cold
+ * path budget if the handler marked the request as such), or the default budget. Requests over budget are logged with their most repeated statement (usually the
+ * culprit of an N+1) and, when {@code failOnExceed} is set (as in tests), fail with a
+ * {@link QueryBudgetExceededException} after the response has been written.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxStatements;
+    private final boolean failOnExceed;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, int defaultMaxStatements, boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.begin();
+        request.setAttribute(RequestMetrics.REQUEST_ATTRIBUTE, metrics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetrics.end();
+            record(metrics, Tags.of("method", request.getMethod(), "uri", uriTemplate(request)));
+        }
+        checkBudget(request, metrics);
+    }
+
+    private void checkBudget(HttpServletRequest request, RequestMetrics metrics) {
+        int budget = maxStatements(request, metrics);
+        if (metrics.getStatements() <= budget) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + uriTemplate(request);
+        meterRegistry.counter("formbuilder.request.budget.exceeded",
+                "method", request.getMethod(), "uri", uriTemplate(request)).increment();
+
+        StringBuilder message = new StringBuilder()
+                .append(endpoint).append(" ran ").append(metrics.getStatements())
+                .append(" SQL statements, over its budget of ").append(budget);
+        Map.Entry<String, Integer> repeated = metrics.getMostRepeatedStatement();
+        if (repeated != null && repeated.getValue() > 1) {
+            message.append("; most repeated (").append(repeated.getValue()).append("x): ").append(repeated.getKey());
+        }
+        if (failOnExceed) {
+            throw new QueryBudgetExceededException(message.toString());
+        }
+        log.warn(message.toString());
+    }
+
+    /**
+     * Budget of the handler that served the request; only known once the request was dispatched.
+     */
+    private int maxStatements(HttpServletRequest request, RequestMetrics metrics) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                return budgetFor(budget, metrics);
+            }
+        }
+        return defaultMaxStatements;
+    }
+
+    /**
+     * The statements a request may run under {@code budget}, depending on whether it took the cold path.
+     */
+    public static int budgetFor(QueryBudget budget, RequestMetrics metrics) {
+        return metrics.isColdPath() && budget.coldPath() >= 0 ? budget.coldPath() : budget.value();
+    }
+
+    private void record(RequestMetrics metrics, Tags tags) {
+        summary("formbuilder.request.statements", "SQL statements prepared per request", tags)
+                .record(metrics.getStatements());
+        summary("formbuilder.request.entities.loaded", "Entities loaded by Hibernate per request", tags)
+                .record(metrics.getEntitiesLoaded());
+        summary("formbuilder.request.collections.fetched", "Lazy collections initialized per request", tags)
+                .record(metrics.getCollectionsFetched());
+        summary("formbuilder.request.cache.hits", "Second-level cache hits per request", tags)
+                .record(metrics.getSecondLevelCacheHits());
+        summary("formbuilder.request.cache.misses", "Second-level cache misses per request", tags)
+                .record(metrics.getSecondLevelCacheMisses());
+        Timer.builder("formbuilder.request.serialization")
+                .description("Time spent writing JSON response bodies")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(metrics.getSerializationNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry);
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
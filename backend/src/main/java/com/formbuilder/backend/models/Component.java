@@ -1,29 +1,129 @@
 package com.formbuilder.backend.models;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.formbuilder.backend.models.types.AccordionComponent;
+import com.formbuilder.backend.models.types.ButtonComponent;
+import com.formbuilder.backend.models.types.CardComponent;
+import com.formbuilder.backend.models.types.CheckboxComponent;
+import com.formbuilder.backend.models.types.CheckboxGroupComponent;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.models.types.DateInputComponent;
+import com.formbuilder.backend.models.types.EmailInputComponent;
+import com.formbuilder.backend.models.types.FieldsetComponent;
+import com.formbuilder.backend.models.types.FileInputComponent;
+import com.formbuilder.backend.models.types.GroupComponent;
+import com.formbuilder.backend.models.types.HiddenInputComponent;
+import com.formbuilder.backend.models.types.NumberInputComponent;
+import com.formbuilder.backend.models.types.PanelComponent;
+import com.formbuilder.backend.models.types.PasswordInputComponent;
+import com.formbuilder.backend.models.types.RadioComponent;
+import com.formbuilder.backend.models.types.SectionComponent;
+import com.formbuilder.backend.models.types.SelectComponent;
+import com.formbuilder.backend.models.types.SubmitButtonComponent;
+import com.formbuilder.backend.models.types.TabPanelComponent;
+import com.formbuilder.backend.models.types.TextAreaComponent;
+import com.formbuilder.backend.models.types.TextInputComponent;
+import com.formbuilder.backend.models.types.TimeInputComponent;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DiscriminatorOptions;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A node of a page's component tree. Types with behaviour of their own have a subclass in
+ * {@code models.types}; all of them share the components table and are told apart by
+ * component_type, so loading a page's components reads one table however many types there are.
+ * Rows of types without a subclass load as a plain Component.
+ * <p>
+ * componentType is both the discriminator and a regular column: Hibernate never writes the
+ * discriminator itself ({@code insert = false}), the subclasses set componentType instead. JSON
+ * picks the subclass from the same property and keeps serializing it as before.
+ * <p>
+ * A component's type is therefore fixed once it is created: create components with
+ * {@link ComponentTypes#newComponent}, which picks the subclass matching the type.
+ */
 @Entity
-@Table(name = "components")
-@Inheritance(strategy = InheritanceType.JOINED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "components")
+@Table(name = "components", indexes = {
+        @Index(name = "idx_components_path", columnList = "path"),
+        @Index(name = "idx_components_type", columnList = "component_type")
+})
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@DiscriminatorColumn(name = "component_type", discriminatorType = DiscriminatorType.STRING, length = 255)
+@DiscriminatorValue("not null")
+@DiscriminatorOptions(insert = false)
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "componentType",
+        visible = true, defaultImpl = Component.class)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PanelComponent.class, name = PanelComponent.TYPE),
+        @JsonSubTypes.Type(value = FieldsetComponent.class, name = FieldsetComponent.TYPE),
+        @JsonSubTypes.Type(value = SectionComponent.class, name = SectionComponent.TYPE),
+        @JsonSubTypes.Type(value = GroupComponent.class, name = GroupComponent.TYPE),
+        @JsonSubTypes.Type(value = CardComponent.class, name = CardComponent.TYPE),
+        @JsonSubTypes.Type(value = TabPanelComponent.class, name = TabPanelComponent.TYPE),
+        @JsonSubTypes.Type(value = AccordionComponent.class, name = AccordionComponent.TYPE),
+        @JsonSubTypes.Type(value = TextInputComponent.class, name = TextInputComponent.TYPE),
+        @JsonSubTypes.Type(value = EmailInputComponent.class, name = EmailInputComponent.TYPE),
+        @JsonSubTypes.Type(value = PasswordInputComponent.class, name = PasswordInputComponent.TYPE),
+        @JsonSubTypes.Type(value = TextAreaComponent.class, name = TextAreaComponent.TYPE),
+        @JsonSubTypes.Type(value = NumberInputComponent.class, name = NumberInputComponent.TYPE),
+        @JsonSubTypes.Type(value = DateInputComponent.class, name = DateInputComponent.TYPE),
+        @JsonSubTypes.Type(value = TimeInputComponent.class, name = TimeInputComponent.TYPE),
+        @JsonSubTypes.Type(value = FileInputComponent.class, name = FileInputComponent.TYPE),
+        @JsonSubTypes.Type(value = HiddenInputComponent.class, name = HiddenInputComponent.TYPE),
+        @JsonSubTypes.Type(value = CheckboxComponent.class, name = CheckboxComponent.TYPE),
+        @JsonSubTypes.Type(value = CheckboxGroupComponent.class, name = CheckboxGroupComponent.TYPE),
+        @JsonSubTypes.Type(value = RadioComponent.class, name = RadioComponent.TYPE),
+        @JsonSubTypes.Type(value = SelectComponent.class, name = SelectComponent.TYPE),
+        @JsonSubTypes.Type(value = ButtonComponent.class, name = ButtonComponent.TYPE),
+        @JsonSubTypes.Type(value = SubmitButtonComponent.class, name = SubmitButtonComponent.TYPE)
+})
 public class Component {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "components_seq")
+    @SequenceGenerator(name = "components_seq", sequenceName = "components_seq", allocationSize = 50)
     private Long id;
 
+    @Column(name = "component_type", nullable = false)
     private String componentType; // e.g., "TEXT_INPUT", "CHECKBOX_GROUP"
     private String label;
 
     @Column(name = "order_index")
     private Integer orderIndex = 0;
 
+    // Whether orderIndex was set explicitly (e.g. given in a request body) rather than left at 0;
+    // single creates append the component after its siblings otherwise
+    @Transient
+    @JsonIgnore
+    private boolean orderIndexAssigned;
+
+    // Materialized path: the ids of all ancestors, root first, as "/12/45/" ("/" for a root
+    // component). The descendants of a component are exactly the rows whose path starts with
+    // getDescendantPathPrefix(), so subtree reads, deletes and cycle checks need no recursion.
+    @Column(name = "path", nullable = false, length = 1024)
+    @JsonIgnore
+    private String path = "/";
+
+    // Number of ancestors, i.e. the number of ids in path
+    @Column(name = "depth", nullable = false)
+    @JsonIgnore
+    private int depth;
+
     @Lob // For potentially large JSON string
     private String attributes; // Store component-specific attributes as JSON
 
+    // Decoded lazily from attributes on first typed access; reset whenever attributes change
+    @Transient
+    private ComponentAttributes typedAttributes;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "page_id")
     @JsonBackReference("page-components")
@@ -35,20 +135,15 @@ public class Component {
     private Component parentComponent;
 
     @OneToMany(mappedBy = "parentComponent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "components-children")
     @JsonManagedReference("parent-child")
-    @OrderBy("orderIndex ASC")
+    @OrderBy("orderIndex ASC, id ASC")
     private List<Component> childComponents = new ArrayList<>();
 
     // Constructors
     public Component() {
     }
 
-    public Component(String componentType, String label, String attributes) {
-        this.componentType = componentType;
-        this.label = label;
-        this.attributes = attributes;
-    }
-
     // Getters and Setters
     public Long getId() {
         return id;
@@ -80,6 +175,11 @@ public class Component {
 
     public void setOrderIndex(Integer orderIndex) {
         this.orderIndex = orderIndex;
+        this.orderIndexAssigned = true;
+    }
+
+    public boolean hasOrderIndex() {
+        return orderIndexAssigned;
     }
 
     public String getAttributes() {
@@ -88,6 +188,67 @@ public class Component {
 
     public void setAttributes(String attributes) {
         this.attributes = attributes;
+        this.typedAttributes = null;
+    }
+
+    /**
+     * Typed view of {@link #getAttributes()}. The JSON is parsed at most once per instance and only
+     * when a property is actually read; serializing the component never parses it.
+     */
+    @JsonIgnore
+    public ComponentAttributes getTypedAttributes() {
+        if (typedAttributes == null) {
+            typedAttributes = new ComponentAttributes(attributes);
+        }
+        return typedAttributes;
+    }
+
+    /**
+     * Sets (or removes, when {@code value} is {@code null}) a single attribute.
+     */
+    public void setAttribute(String name, Object value) {
+        setAttributes(getTypedAttributes().with(name, value));
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * The path prefix shared by all descendants of this component.
+     */
+    @JsonIgnore
+    public String getDescendantPathPrefix() {
+        return path + id + "/";
+    }
+
+    /**
+     * Whether {@code other} is this component or one of its descendants.
+     */
+    public boolean isSelfOrAncestorOf(Component other) {
+        return id != null && (id.equals(other.getId()) || other.getPath().startsWith(getDescendantPathPrefix()));
+    }
+
+    /**
+     * Recomputes path and depth from the current parent. Called before the first insert; after a
+     * move the descendants are updated in bulk with {@code ComponentRepository.moveDescendants}.
+     */
+    @PrePersist
+    public void updatePath() {
+        if (parentComponent == null) {
+            path = "/";
+            depth = 0;
+        } else {
+            if (parentComponent.getId() == null) {
+                throw new IllegalStateException("Parent component must be persisted before its children");
+            }
+            path = parentComponent.getDescendantPathPrefix();
+            depth = parentComponent.getDepth() + 1;
+        }
     }
 
     public Page getPage() {
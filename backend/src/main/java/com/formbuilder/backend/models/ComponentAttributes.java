@@ -0,0 +1,123 @@
+package com.formbuilder.backend.models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Typed, read-mostly view of a component's attributes JSON.
+ * <p>
+ * The JSON text stays the source of truth: it is what gets stored and what is written to API
+ * responses, unchanged. It is only decoded, once, the first time a property is read, so requests
+ * that just pass components through (e.g. GET of a form) never parse attributes at all.
+ * Changes made through {@link #with} produce a new JSON text rather than mutating this view.
+ */
+public final class ComponentAttributes {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final String json;
+    private Map<String, Object> values;
+
+    public ComponentAttributes(String json) {
+        this.json = json;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    /**
+     * All attributes as an unmodifiable map. Attributes that are missing, blank or not a JSON
+     * object read as an empty map.
+     */
+    public Map<String, Object> asMap() {
+        if (values == null) {
+            values = Collections.unmodifiableMap(decode(json));
+        }
+        return values;
+    }
+
+    boolean isDecoded() {
+        return values != null;
+    }
+
+    public Object get(String name) {
+        return asMap().get(name);
+    }
+
+    public String getString(String name) {
+        Object value = get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getInteger(String name) {
+        Object value = get(name);
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Integer.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public boolean getBoolean(String name, boolean defaultValue) {
+        Object value = get(name);
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof String text) {
+            return Boolean.parseBoolean(text);
+        }
+        return defaultValue;
+    }
+
+    public boolean isRequired() {
+        return getBoolean("required", false);
+    }
+
+    public String getPlaceholder() {
+        return getString("placeholder");
+    }
+
+    /**
+     * @return JSON text of these attributes with {@code name} set to {@code value}, or removed when
+     * {@code value} is {@code null}
+     */
+    public String with(String name, Object value) {
+        Map<String, Object> updated = new LinkedHashMap<>(asMap());
+        if (value == null) {
+            updated.remove(name);
+        } else {
+            updated.put(name, value);
+        }
+        try {
+            return MAPPER.writeValueAsString(updated);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Attribute '" + name + "' cannot be written as JSON", e);
+        }
+    }
+
+    private static Map<String, Object> decode(String json) {
+        if (json == null || json.isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            Map<String, Object> decoded = MAPPER.readValue(json, MAP_TYPE);
+            return decoded != null ? decoded : new LinkedHashMap<>();
+        } catch (JsonProcessingException e) {
+            return new LinkedHashMap<>();
+        }
+    }
+}
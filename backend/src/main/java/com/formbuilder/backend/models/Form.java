@@ -1,46 +1,39 @@
 package com.formbuilder.backend.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "forms")
-@NamedEntityGraph(
-    name = "form-with-pages-and-components",
-    attributeNodes = {
-        @NamedAttributeNode(value = "pages", subgraph = "pages-subgraph")
-    },
-    subgraphs = {
-        @NamedSubgraph(
-            name = "pages-subgraph",
-            attributeNodes = {
-                @NamedAttributeNode(value = "components", subgraph = "components-subgraph")
-            }
-        ),
-        @NamedSubgraph(
-            name = "components-subgraph",
-            attributeNodes = {
-                // Eagerly fetch childComponents of each component.
-                // This assumes 'childComponents' is the name of the field in Component.java
-                @NamedAttributeNode(value = "childComponents")
-            }
-        )
-    }
-)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "forms")
+@Table(name = "forms", indexes = @Index(name = "idx_forms_name", columnList = "name"))
 public class Form {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "forms_seq")
+    @SequenceGenerator(name = "forms_seq", sequenceName = "forms_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private String description;
 
+    // Also bumped when a page or component of the form changes, see FormChangeTracker
+    @Column(name = "last_modified")
+    private Instant lastModified;
+
+    // Same here; any change anywhere in the form's tree increments it. Used for ETags.
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "form", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "forms-pages")
     @JsonManagedReference("form-pages")
-    @OrderBy("orderIndex ASC")
+    @OrderBy("orderIndex ASC, id ASC")
     private List<Page> pages = new ArrayList<>();
 
     // Constructors
@@ -77,6 +70,28 @@ public class Form {
         this.description = description;
     }
 
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        lastModified = Instant.now();
+    }
+
     public List<Page> getPages() {
         return pages;
     }
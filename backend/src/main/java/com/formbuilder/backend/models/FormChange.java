@@ -0,0 +1,132 @@
+package com.formbuilder.backend.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.Instant;
+
+/**
+ * One entry of a form's change log, read by clients through {@code GET /api/forms/{id}/changes}
+ * to apply edits to a form they already have instead of downloading the whole tree again.
+ * <p>
+ * {@code seq} is the form's version as of the commit that made the change, so it only ever grows
+ * and all entries of one transaction share it. It is {@code null} until that commit assigns it.
+ */
+@Entity
+@Table(name = "form_changes", indexes = @Index(name = "idx_form_changes_form_seq", columnList = "form_id, seq"))
+public class FormChange {
+
+    public enum Type {
+        FORM_UPDATED,
+        PAGE_CREATED,
+        PAGE_UPDATED,
+        PAGE_DELETED,
+        PAGES_REORDERED,
+        COMPONENTS_CREATED,
+        COMPONENT_UPDATED,
+        COMPONENT_MOVED,
+        COMPONENT_DELETED,
+        COMPONENTS_REORDERED
+    }
+
+    // Identity rather than a pooled sequence: entries are written one at a time and a pooled
+    // sequence would add a statement to whichever request happens to exhaust the pool
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "form_id", nullable = false)
+    private Long formId;
+
+    private Long seq;
+
+    // Plain VARCHAR rather than a native ENUM column, so that adding a type needs no migration
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    // The page or component the change is about, if it is about a single one
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Lob
+    private String data; // JSON, shape depends on type
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    // Constructors
+    public FormChange() {
+    }
+
+    public FormChange(Long formId, Type type, Long entityId, String data) {
+        this.formId = formId;
+        this.type = type;
+        this.entityId = entityId;
+        this.data = data;
+        this.createdAt = Instant.now();
+    }
+
+    // Getters and Setters
+    @JsonIgnore
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @JsonIgnore
+    public Long getFormId() {
+        return formId;
+    }
+
+    public void setFormId(Long formId) {
+        this.formId = formId;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    @JsonRawValue
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,70 @@
+package com.formbuilder.backend.models;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * Precomputed JSON of a form's whole tree, as of form {@code version}. Written by
+ * {@code FormDocumentProjector} and served as is by {@code GET /api/forms/{formId}/render}; it is
+ * only ever read as a scalar projection, never loaded as an entity.
+ */
+@Entity
+@Table(name = "form_documents")
+public class FormDocument {
+
+    // Assigned, shared with the form it belongs to
+    @Id
+    @Column(name = "form_id")
+    private Long formId;
+
+    private Long version;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] document;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public FormDocument() {
+    }
+
+    public FormDocument(Long formId, Long version, byte[] document, Instant updatedAt) {
+        this.formId = formId;
+        this.version = version;
+        this.document = document;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getFormId() {
+        return formId;
+    }
+
+    public void setFormId(Long formId) {
+        this.formId = formId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public byte[] getDocument() {
+        return document;
+    }
+
+    public void setDocument(byte[] document) {
+        this.document = document;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.formbuilder.backend.models;
+
+import java.time.Instant;
+
+/**
+ * Lightweight view of a form for listings: no pages or components, only their counts.
+ */
+public record FormSummary(Long id, String name, String description, Long pageCount, Long componentCount,
+                          Instant lastModified) {
+}
@@ -1,18 +1,24 @@
 package com.formbuilder.backend.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pages")
 @Table(name = "pages")
 public class Page {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pages_seq")
+    @SequenceGenerator(name = "pages_seq", sequenceName = "pages_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -20,15 +26,22 @@ public class Page {
     @Column(name = "order_index")
     private Integer orderIndex = 0;
 
+    // Whether orderIndex was set explicitly (e.g. given in a request body) rather than left at 0;
+    // single creates append the page after its siblings otherwise
+    @Transient
+    @JsonIgnore
+    private boolean orderIndexAssigned;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "form_id")
     @JsonBackReference("form-pages")
     private Form form;
 
     @OneToMany(mappedBy = "page", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pages-components")
     @JsonManagedReference("page-components")
     @Where(clause = "parent_component_id IS NULL")
-    @OrderBy("orderIndex ASC")
+    @OrderBy("orderIndex ASC, id ASC")
     private List<Component> components = new ArrayList<>();
 
     // Constructors
@@ -62,6 +75,11 @@ public class Page {
 
     public void setOrderIndex(Integer orderIndex) {
         this.orderIndex = orderIndex;
+        this.orderIndexAssigned = true;
+    }
+
+    public boolean hasOrderIndex() {
+        return orderIndexAssigned;
     }
 
     public Form getForm() {
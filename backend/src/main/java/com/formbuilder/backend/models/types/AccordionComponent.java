@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(AccordionComponent.TYPE)
+public class AccordionComponent extends ContainerComponent {
+
+    public static final String TYPE = "ACCORDION";
+
+    public AccordionComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.formbuilder.backend.models.types;
+
+import com.formbuilder.backend.models.Component;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(ButtonComponent.TYPE)
+public class ButtonComponent extends Component {
+
+    public static final String TYPE = "BUTTON";
+
+    public ButtonComponent() {
+        setComponentType(TYPE);
+    }
+}
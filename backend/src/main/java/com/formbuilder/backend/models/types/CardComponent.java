@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(CardComponent.TYPE)
+public class CardComponent extends ContainerComponent {
+
+    public static final String TYPE = "CARD";
+
+    public CardComponent() {
+        setComponentType(TYPE);
+    }
+}
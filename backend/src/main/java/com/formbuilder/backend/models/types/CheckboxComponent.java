@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(CheckboxComponent.TYPE)
+public class CheckboxComponent extends FieldComponent {
+
+    public static final String TYPE = "CHECKBOX";
+
+    public CheckboxComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(CheckboxGroupComponent.TYPE)
+public class CheckboxGroupComponent extends FieldComponent {
+
+    public static final String TYPE = "CHECKBOX_GROUP";
+
+    public CheckboxGroupComponent() {
+        setComponentType(TYPE);
+    }
+}
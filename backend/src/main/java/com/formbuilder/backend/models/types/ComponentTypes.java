@@ -0,0 +1,67 @@
+package com.formbuilder.backend.models.types;
+
+import com.formbuilder.backend.models.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Map.entry;
+
+/**
+ * The component types that have a subclass of their own. Other types are stored and served just
+ * the same, as plain {@link Component}s.
+ */
+public final class ComponentTypes {
+
+    private static final Map<String, Supplier<Component>> SUBCLASSES = Map.ofEntries(
+            subclass(PanelComponent.TYPE, PanelComponent::new),
+            subclass(FieldsetComponent.TYPE, FieldsetComponent::new),
+            subclass(SectionComponent.TYPE, SectionComponent::new),
+            subclass(GroupComponent.TYPE, GroupComponent::new),
+            subclass(CardComponent.TYPE, CardComponent::new),
+            subclass(TabPanelComponent.TYPE, TabPanelComponent::new),
+            subclass(AccordionComponent.TYPE, AccordionComponent::new),
+            subclass(TextInputComponent.TYPE, TextInputComponent::new),
+            subclass(EmailInputComponent.TYPE, EmailInputComponent::new),
+            subclass(PasswordInputComponent.TYPE, PasswordInputComponent::new),
+            subclass(TextAreaComponent.TYPE, TextAreaComponent::new),
+            subclass(NumberInputComponent.TYPE, NumberInputComponent::new),
+            subclass(DateInputComponent.TYPE, DateInputComponent::new),
+            subclass(TimeInputComponent.TYPE, TimeInputComponent::new),
+            subclass(FileInputComponent.TYPE, FileInputComponent::new),
+            subclass(HiddenInputComponent.TYPE, HiddenInputComponent::new),
+            subclass(CheckboxComponent.TYPE, CheckboxComponent::new),
+            subclass(CheckboxGroupComponent.TYPE, CheckboxGroupComponent::new),
+            subclass(RadioComponent.TYPE, RadioComponent::new),
+            subclass(SelectComponent.TYPE, SelectComponent::new),
+            subclass(ButtonComponent.TYPE, ButtonComponent::new),
+            subclass(SubmitButtonComponent.TYPE, SubmitButtonComponent::new));
+
+    private ComponentTypes() {
+    }
+
+    private static Map.Entry<String, Supplier<Component>> subclass(String componentType, Supplier<Component> constructor) {
+        return entry(componentType, constructor);
+    }
+
+    /**
+     * The types with a subclass, sorted by name.
+     */
+    public static List<String> names() {
+        return SUBCLASSES.keySet().stream().sorted().toList();
+    }
+
+    /**
+     * A new component of the subclass for {@code componentType}, or a plain {@link Component}
+     * for types without one.
+     */
+    public static Component newComponent(String componentType, String label, String attributes) {
+        Supplier<Component> constructor = componentType != null ? SUBCLASSES.get(componentType) : null;
+        Component component = constructor != null ? constructor.get() : new Component();
+        component.setComponentType(componentType);
+        component.setLabel(label);
+        component.setAttributes(attributes);
+        return component;
+    }
+}
@@ -0,0 +1,11 @@
+package com.formbuilder.backend.models.types;
+
+import com.formbuilder.backend.models.Component;
+import jakarta.persistence.Entity;
+
+/**
+ * Components that lay out other components (panels, sections, tabs, ...).
+ */
+@Entity
+public abstract class ContainerComponent extends Component {
+}
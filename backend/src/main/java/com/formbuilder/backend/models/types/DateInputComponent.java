@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(DateInputComponent.TYPE)
+public class DateInputComponent extends FieldComponent {
+
+    public static final String TYPE = "DATE_INPUT";
+
+    public DateInputComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(EmailInputComponent.TYPE)
+public class EmailInputComponent extends FieldComponent {
+
+    public static final String TYPE = "EMAIL_INPUT";
+
+    public EmailInputComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,23 @@
+package com.formbuilder.backend.models.types;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.formbuilder.backend.models.Component;
+import jakarta.persistence.Entity;
+
+/**
+ * Components that collect a value from the user. The accessors read the attributes JSON, which
+ * stays the only stored form of these settings, and are left out of API responses.
+ */
+@Entity
+public abstract class FieldComponent extends Component {
+
+    @JsonIgnore
+    public boolean isRequired() {
+        return getTypedAttributes().isRequired();
+    }
+
+    @JsonIgnore
+    public String getPlaceholder() {
+        return getTypedAttributes().getPlaceholder();
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(FieldsetComponent.TYPE)
+public class FieldsetComponent extends ContainerComponent {
+
+    public static final String TYPE = "FIELDSET";
+
+    public FieldsetComponent() {
+        setComponentType(TYPE);
+    }
+}
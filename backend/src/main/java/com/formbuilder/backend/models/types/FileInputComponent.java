@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(FileInputComponent.TYPE)
+public class FileInputComponent extends FieldComponent {
+
+    public static final String TYPE = "FILE_INPUT";
+
+    public FileInputComponent() {
+        setComponentType(TYPE);
+    }
+}
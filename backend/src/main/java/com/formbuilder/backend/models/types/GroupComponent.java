@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(GroupComponent.TYPE)
+public class GroupComponent extends ContainerComponent {
+
+    public static final String TYPE = "GROUP";
+
+    public GroupComponent() {
+        setComponentType(TYPE);
+    }
+}
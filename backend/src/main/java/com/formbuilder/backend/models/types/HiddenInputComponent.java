@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(HiddenInputComponent.TYPE)
+public class HiddenInputComponent extends FieldComponent {
+
+    public static final String TYPE = "HIDDEN_INPUT";
+
+    public HiddenInputComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(NumberInputComponent.TYPE)
+public class NumberInputComponent extends FieldComponent {
+
+    public static final String TYPE = "NUMBER_INPUT";
+
+    public NumberInputComponent() {
+        setComponentType(TYPE);
+    }
+}
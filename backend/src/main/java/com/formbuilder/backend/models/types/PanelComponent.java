@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(PanelComponent.TYPE)
+public class PanelComponent extends ContainerComponent {
+
+    public static final String TYPE = "PANEL";
+
+    public PanelComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(PasswordInputComponent.TYPE)
+public class PasswordInputComponent extends FieldComponent {
+
+    public static final String TYPE = "PASSWORD_INPUT";
+
+    public PasswordInputComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(RadioComponent.TYPE)
+public class RadioComponent extends FieldComponent {
+
+    public static final String TYPE = "RADIO";
+
+    public RadioComponent() {
+        setComponentType(TYPE);
+    }
+}
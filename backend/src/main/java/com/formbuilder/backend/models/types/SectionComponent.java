@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(SectionComponent.TYPE)
+public class SectionComponent extends ContainerComponent {
+
+    public static final String TYPE = "SECTION";
+
+    public SectionComponent() {
+        setComponentType(TYPE);
+    }
+}
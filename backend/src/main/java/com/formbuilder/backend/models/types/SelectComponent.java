@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(SelectComponent.TYPE)
+public class SelectComponent extends FieldComponent {
+
+    public static final String TYPE = "SELECT";
+
+    public SelectComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.formbuilder.backend.models.types;
+
+import com.formbuilder.backend.models.Component;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(SubmitButtonComponent.TYPE)
+public class SubmitButtonComponent extends Component {
+
+    public static final String TYPE = "SUBMIT_BUTTON";
+
+    public SubmitButtonComponent() {
+        setComponentType(TYPE);
+    }
+}
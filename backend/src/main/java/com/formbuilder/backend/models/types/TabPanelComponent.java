@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(TabPanelComponent.TYPE)
+public class TabPanelComponent extends ContainerComponent {
+
+    public static final String TYPE = "TAB_PANEL";
+
+    public TabPanelComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,24 @@
+package com.formbuilder.backend.models.types;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(TextAreaComponent.TYPE)
+public class TextAreaComponent extends FieldComponent {
+
+    public static final String TYPE = "TEXT_AREA";
+
+    public TextAreaComponent() {
+        setComponentType(TYPE);
+    }
+
+    /**
+     * Number of visible text lines, or {@code null} if not set.
+     */
+    @JsonIgnore
+    public Integer getRows() {
+        return getTypedAttributes().getInteger("rows");
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(TextInputComponent.TYPE)
+public class TextInputComponent extends FieldComponent {
+
+    public static final String TYPE = "TEXT_INPUT";
+
+    public TextInputComponent() {
+        setComponentType(TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.models.types;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+
+@Entity
+@DiscriminatorValue(TimeInputComponent.TYPE)
+public class TimeInputComponent extends FieldComponent {
+
+    public static final String TYPE = "TIME_INPUT";
+
+    public TimeInputComponent() {
+        setComponentType(TYPE);
+    }
+}
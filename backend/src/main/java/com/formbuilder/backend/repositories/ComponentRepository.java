@@ -1,13 +1,86 @@
 package com.formbuilder.backend.repositories;
 
 import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ComponentRepository extends JpaRepository<Component, Long> {
+public interface ComponentRepository extends JpaRepository<Component, Long>, ComponentRepositoryCustom {
     List<Component> findByPageIdAndParentComponentIsNull(Long pageId);
     List<Component> findByParentComponentId(Long parentComponentId);
+
+    @Query("select p.form.id from Component c join c.page p where c.id = :componentId")
+    Optional<Long> findFormIdById(@Param("componentId") Long componentId);
+
+    // ===== SUBTREE QUERIES (see Component.getDescendantPathPrefix) =====
+
+    /**
+     * All descendants of the component with the given descendant path prefix, parents before children.
+     */
+    @Query("select c from Component c where c.path like concat(:prefix, '%') order by c.depth, c.orderIndex, c.id")
+    List<Component> findDescendants(@Param("prefix") String descendantPathPrefix);
+
+    /**
+     * Depth of the deepest descendant, or {@code null} for a leaf.
+     */
+    @Query("select max(c.depth) from Component c where c.path like concat(:prefix, '%')")
+    Integer findMaxDescendantDepth(@Param("prefix") String descendantPathPrefix);
+
+    /**
+     * Rewrites the paths of all descendants after their subtree root was moved, and moves them to
+     * the root's new page. {@code depthDelta} is the root's new depth minus its old depth.
+     */
+    @Modifying
+    @Transactional
+    @Query("update Component c set c.path = concat(:newPrefix, substring(c.path, length(:oldPrefix) + 1)), " +
+            "c.depth = c.depth + :depthDelta, c.page = :page where c.path like concat(:oldPrefix, '%')")
+    int moveDescendants(@Param("oldPrefix") String oldDescendantPathPrefix,
+                        @Param("newPrefix") String newDescendantPathPrefix,
+                        @Param("depthDelta") int depthDelta,
+                        @Param("page") Page page);
+
+    /**
+     * Deletes a component and all its descendants without loading them. The parent links inside the
+     * subtree are cleared first, so the rows can go in any order without violating the foreign key.
+     */
+    @Modifying
+    @Transactional
+    @Query("update Component c set c.parentComponent = null where c.path like concat(:prefix, '%')")
+    int detachDescendants(@Param("prefix") String descendantPathPrefix);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Component c where c.id = :componentId or c.path like concat(:prefix, '%')")
+    int deleteSubtree(@Param("componentId") Long componentId, @Param("prefix") String descendantPathPrefix);
+
+    // ===== BULK DELETES OF WHOLE PAGES AND FORMS (see BulkDeleteService) =====
+
+    @Modifying
+    @Transactional
+    @Query("update Component c set c.parentComponent = null where c.page.id = :pageId and c.parentComponent is not null")
+    int detachAllOfPage(@Param("pageId") Long pageId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Component c where c.page.id = :pageId")
+    int deleteAllOfPage(@Param("pageId") Long pageId);
+
+    @Modifying
+    @Transactional
+    @Query("update Component c set c.parentComponent = null "
+            + "where c.page.id in (select p.id from Page p where p.form.id = :formId) and c.parentComponent is not null")
+    int detachAllOfForm(@Param("formId") Long formId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Component c where c.page.id in (select p.id from Page p where p.form.id = :formId)")
+    int deleteAllOfForm(@Param("formId") Long formId);
 }
@@ -0,0 +1,15 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Component;
+
+import java.util.Optional;
+
+public interface ComponentRepositoryCustom {
+
+    /**
+     * Loads a component with its nested components, down to {@code maxDepth} levels below it (all
+     * levels when {@code null}), in a single query. The returned tree is detached and its page and
+     * parent are not populated.
+     */
+    Optional<Component> findSubtreeById(Long componentId, Integer maxDepth);
+}
@@ -0,0 +1,39 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Component;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class ComponentRepositoryImpl implements ComponentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Component> findSubtreeById(Long componentId, Integer maxDepth) {
+        // r is the subtree root: its rows are the ones on its page whose path starts with its
+        // descendant prefix (see Component.getDescendantPathPrefix), plus r itself
+        String jpql = FormTreeAssembler.COMPONENT_ROW_SELECT + ", Component r"
+                + " where r.id = :componentId and p.id = r.page.id"
+                + " and (c.id = r.id or c.path like concat(r.path, cast(r.id as String), '/%'))"
+                + (maxDepth != null ? " and c.depth <= r.depth + :maxDepth" : "")
+                + " order by c.orderIndex asc, c.id asc";
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("componentId", componentId);
+        if (maxDepth != null) {
+            query.setParameter("maxDepth", Math.max(0, maxDepth));
+        }
+        List<Tuple> componentRows = query.getResultList();
+
+        Map<Long, Component> componentsById = FormTreeAssembler.attachComponents(componentRows, Map.of());
+        return Optional.ofNullable(componentsById.get(componentId));
+    }
+}
@@ -0,0 +1,34 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.FormChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface FormChangeRepository extends JpaRepository<FormChange, Long> {
+
+    @Query("select c from FormChange c where c.formId = :formId and c.seq > :since order by c.seq, c.id")
+    List<FormChange> findSince(@Param("formId") Long formId, @Param("since") long since, Pageable pageable);
+
+    /**
+     * Stamps the form's pending entries with its current version. Must run in the same transaction
+     * as the version bump, after it, so that entries become visible together with their version.
+     */
+    @Modifying
+    @Transactional
+    @Query("update FormChange c set c.seq = (select f.version from Form f where f.id = :formId) "
+            + "where c.formId = :formId and c.seq is null")
+    int assignSequence(@Param("formId") Long formId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from FormChange c where c.formId = :formId")
+    int deleteByFormId(@Param("formId") Long formId);
+}
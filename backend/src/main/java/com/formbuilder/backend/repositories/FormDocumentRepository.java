@@ -0,0 +1,56 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.models.FormDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface FormDocumentRepository extends JpaRepository<FormDocument, Long> {
+
+    /**
+     * The stored document and its version, read as scalars so that nothing is hydrated or kept in
+     * the persistence context.
+     */
+    @Query("select new com.formbuilder.backend.cache.FormSnapshot(d.version, d.document) "
+            + "from FormDocument d where d.formId = :formId")
+    Optional<FormSnapshot> findSnapshotByFormId(@Param("formId") Long formId);
+
+    /**
+     * Replaces the document of a form without reading the previous one first, unless the stored one
+     * is of a newer form version (a projection that ran outside of the change's transaction and
+     * lost the race with a later one).
+     *
+     * @return 0 if the form has no document yet or a newer one
+     */
+    @Modifying
+    @Transactional
+    @Query("update FormDocument d set d.version = :version, d.document = :document, d.updatedAt = :updatedAt "
+            + "where d.formId = :formId and (d.version is null or d.version <= :version)")
+    int replace(@Param("formId") Long formId, @Param("version") Long version,
+                @Param("document") byte[] document, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Writes the first document of a form, provided the form still exists.
+     *
+     * @return 0 if the form does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "insert into form_documents (form_id, version, document, updated_at) "
+            + "select id, :version, :document, :updatedAt from forms where id = :formId", nativeQuery = true)
+    int insertIfFormExists(@Param("formId") Long formId, @Param("version") Long version,
+                           @Param("document") byte[] document, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query("delete from FormDocument d where d.formId = :formId")
+    int deleteByFormId(@Param("formId") Long formId);
+}
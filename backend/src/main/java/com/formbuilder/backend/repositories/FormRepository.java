@@ -1,15 +1,43 @@
 package com.formbuilder.backend.repositories;
 
 import com.formbuilder.backend.models.Form;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.formbuilder.backend.models.FormSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FormRepository extends JpaRepository<Form, Long> {
-    @Override
-    @EntityGraph(value = "form-with-pages-and-components", type = EntityGraph.EntityGraphType.LOAD)
-    Optional<Form> findById(Long id);
+public interface FormRepository extends JpaRepository<Form, Long>, FormRepositoryCustom {
+
+    /**
+     * Keyset page of form summaries with an id greater than {@code afterId}, in id order. Only the
+     * page size of the pageable is meant to be used; the offset should stay 0 so that deep pages
+     * cost the same as the first one.
+     *
+     * @param namePrefix optional case-sensitive name prefix, with LIKE wildcards escaped by '!'
+     */
+    @Query("select new com.formbuilder.backend.models.FormSummary(f.id, f.name, f.description, "
+            + "(select count(p) from Page p where p.form = f), "
+            + "(select count(c) from Component c join c.page cp where cp.form = f), "
+            + "f.lastModified) "
+            + "from Form f "
+            + "where f.id > :afterId and (:namePrefix is null or f.name like concat(:namePrefix, '%') escape '!') "
+            + "order by f.id asc")
+    List<FormSummary> findSummaries(@Param("afterId") long afterId, @Param("namePrefix") String namePrefix, Pageable pageable);
+
+    @Query("select f.version from Form f where f.id = :formId")
+    Optional<Long> findVersionById(@Param("formId") Long formId);
+
+    // Bulk delete that skips cascading; the pages must be deleted first (see BulkDeleteService)
+    @Modifying
+    @Transactional
+    @Query("delete from Form f where f.id = :formId")
+    int deleteInBulkById(@Param("formId") Long formId);
 }
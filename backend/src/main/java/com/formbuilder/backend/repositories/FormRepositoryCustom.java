@@ -0,0 +1,24 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Form;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface FormRepositoryCustom {
+
+    /**
+     * Loads a form with all of its pages and (arbitrarily deeply) nested components using a
+     * fixed number of queries. The returned graph is detached and fully initialized, so it can
+     * be serialized without triggering lazy loads.
+     */
+    Optional<Form> findTreeById(Long formId);
+
+    /**
+     * Records a change somewhere in the form's tree: bumps its version and last modification time.
+     * Only this form's second-level cache entry is evicted, after commit.
+     *
+     * @return the number of forms updated, 0 if the form does not exist
+     */
+    int touch(Long formId, Instant modifiedAt);
+}
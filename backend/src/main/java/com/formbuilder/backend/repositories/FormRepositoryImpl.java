@@ -0,0 +1,89 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class FormRepositoryImpl implements FormRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Form> findTreeById(Long formId) {
+        List<Tuple> formRows = entityManager.createQuery(
+                        FormTreeAssembler.FORM_ROW_SELECT + " where f.id = :formId",
+                        Tuple.class)
+                .setParameter("formId", formId)
+                .getResultList();
+        if (formRows.isEmpty()) {
+            return Optional.empty();
+        }
+        Form form = FormTreeAssembler.toForm(formRows.get(0));
+
+        List<Tuple> pageRows = entityManager.createQuery(
+                        FormTreeAssembler.PAGE_ROW_SELECT + " where p.form.id = :formId order by p.orderIndex asc, p.id asc",
+                        Tuple.class)
+                .setParameter("formId", formId)
+                .getResultList();
+        Map<Long, Page> pagesById = new LinkedHashMap<>();
+        for (Tuple row : pageRows) {
+            Page page = FormTreeAssembler.toPage(row);
+            form.addPage(page);
+            pagesById.put(page.getId(), page);
+        }
+
+        // One flat query for every component of the form, regardless of nesting depth
+        List<Tuple> componentRows = entityManager.createQuery(
+                        FormTreeAssembler.COMPONENT_ROW_SELECT + " where p.form.id = :formId order by c.orderIndex asc, c.id asc",
+                        Tuple.class)
+                .setParameter("formId", formId)
+                .getResultList();
+        FormTreeAssembler.attachComponents(componentRows, pagesById);
+
+        return Optional.of(form);
+    }
+
+    @Override
+    @Transactional
+    public int touch(Long formId, Instant modifiedAt) {
+        // A JPQL update would invalidate the whole forms region on every edit of any form. Native
+        // statements do the same unless given query spaces; the empty one makes Hibernate
+        // invalidate nothing, and the single stale entry is evicted below instead. Which also means
+        // no automatic flush, so pending changes to the form reach the row before the version bump
+        entityManager.flush();
+        int updated = entityManager.createNativeQuery(
+                        "update forms set version = version + 1, last_modified = :modifiedAt where id = :formId")
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("formId", formId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .executeUpdate();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(Form.class, formId);
+                }
+            });
+        } else {
+            cache.evict(Form.class, formId);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,94 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import jakarta.persistence.Tuple;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds detached Form -> Page -> Component trees in memory from flat query rows.
+ * Rows are expected to come from the select clauses below so that every alias is present.
+ */
+public final class FormTreeAssembler {
+
+    public static final String PAGE_ROW_SELECT =
+            "select p.id as id, p.form.id as formId, p.name as name, p.orderIndex as orderIndex from Page p";
+
+    public static final String COMPONENT_ROW_SELECT =
+            "select c.id as id, p.form.id as formId, p.id as pageId, pc.id as parentId, c.componentType as componentType, "
+                    + "c.label as label, c.orderIndex as orderIndex, c.attributes as attributes "
+                    + "from Component c join c.page p left join c.parentComponent pc";
+
+    public static final String FORM_ROW_SELECT =
+            "select f.id as id, f.name as name, f.description as description, f.lastModified as lastModified, "
+                    + "f.version as version from Form f";
+
+    private FormTreeAssembler() {
+    }
+
+    public static Form toForm(Tuple row) {
+        Form form = new Form(row.get("name", String.class), row.get("description", String.class));
+        form.setId(row.get("id", Long.class));
+        form.setLastModified(row.get("lastModified", Instant.class));
+        form.setVersion(row.get("version", Long.class));
+        return form;
+    }
+
+    public static Page toPage(Tuple row) {
+        Page page = new Page(row.get("name", String.class));
+        page.setId(row.get("id", Long.class));
+        page.setOrderIndex(row.get("orderIndex", Integer.class));
+        return page;
+    }
+
+    public static Component toComponent(Tuple row) {
+        Component component = ComponentTypes.newComponent(
+                row.get("componentType", String.class),
+                row.get("label", String.class),
+                row.get("attributes", String.class));
+        component.setId(row.get("id", Long.class));
+        component.setOrderIndex(row.get("orderIndex", Integer.class));
+        return component;
+    }
+
+    /**
+     * Wires component rows to their pages (root components) and parents (nested components).
+     * Rows must already be sorted by orderIndex so that sibling lists keep the same order the
+     * {@code @OrderBy} mappings would produce. Components whose parent is not part of the rows are
+     * left unattached; they are still returned in the id map.
+     *
+     * @return every component built from the rows, keyed by id
+     */
+    public static Map<Long, Component> attachComponents(List<Tuple> rows, Map<Long, Page> pagesById) {
+        Map<Long, Component> componentsById = new HashMap<>(rows.size() * 2);
+        for (Tuple row : rows) {
+            Component component = toComponent(row);
+            componentsById.put(component.getId(), component);
+        }
+
+        // Second pass so that a child can be linked even if it sorts before its parent
+        for (Tuple row : rows) {
+            Component component = componentsById.get(row.get("id", Long.class));
+            Page page = pagesById.get(row.get("pageId", Long.class));
+            Long parentId = row.get("parentId", Long.class);
+            if (parentId == null) {
+                if (page != null) {
+                    page.addComponent(component);
+                }
+            } else {
+                Component parent = componentsById.get(parentId);
+                if (parent != null) {
+                    parent.addChildComponent(component);
+                }
+                component.setPage(page);
+            }
+        }
+        return componentsById;
+    }
+}
@@ -2,11 +2,30 @@ package com.formbuilder.backend.repositories;
 
 import com.formbuilder.backend.models.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PageRepository extends JpaRepository<Page, Long> {
+public interface PageRepository extends JpaRepository<Page, Long>, PageRepositoryCustom {
     List<Page> findByFormId(Long formId);
+
+    @Query("select p.form.id from Page p where p.id = :pageId")
+    Optional<Long> findFormIdById(@Param("pageId") Long pageId);
+
+    // Bulk deletes that skip cascading; the components must be deleted first (see BulkDeleteService)
+    @Modifying
+    @Transactional
+    @Query("delete from Page p where p.id = :pageId")
+    int deleteInBulkById(@Param("pageId") Long pageId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Page p where p.form.id = :formId")
+    int deleteAllOfForm(@Param("formId") Long formId);
 }
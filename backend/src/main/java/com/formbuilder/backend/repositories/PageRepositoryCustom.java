@@ -0,0 +1,14 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Page;
+
+import java.util.Optional;
+
+public interface PageRepositoryCustom {
+
+    /**
+     * Loads a page with all of its (arbitrarily deeply) nested components using a fixed number of
+     * queries. The returned page is detached and its form is not populated.
+     */
+    Optional<Page> findTreeById(Long pageId);
+}
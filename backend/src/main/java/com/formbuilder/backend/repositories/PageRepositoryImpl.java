@@ -0,0 +1,39 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Page;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class PageRepositoryImpl implements PageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Page> findTreeById(Long pageId) {
+        List<Tuple> pageRows = entityManager.createQuery(
+                        FormTreeAssembler.PAGE_ROW_SELECT + " where p.id = :pageId", Tuple.class)
+                .setParameter("pageId", pageId)
+                .getResultList();
+        if (pageRows.isEmpty()) {
+            return Optional.empty();
+        }
+        Page page = FormTreeAssembler.toPage(pageRows.get(0));
+
+        List<Tuple> componentRows = entityManager.createQuery(
+                        FormTreeAssembler.COMPONENT_ROW_SELECT + " where p.id = :pageId order by c.orderIndex asc, c.id asc",
+                        Tuple.class)
+                .setParameter("pageId", pageId)
+                .getResultList();
+        FormTreeAssembler.attachComponents(componentRows, Map.of(page.getId(), page));
+
+        return Optional.of(page);
+    }
+}
@@ -0,0 +1,80 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes component subtrees, pages and forms with a fixed number of set-based statements instead
+ * of letting {@code CascadeType.ALL}/{@code orphanRemoval} load every descendant into the
+ * persistence context and delete it row by row.
+ * <p>
+ * Parent links among the deleted components are cleared first, so that their rows can then go in
+ * one DELETE without tripping the self-referencing foreign key. Hibernate invalidates the
+ * second-level cache regions touched by bulk statements; the form snapshot is dropped by the
+ * {@code FormChangedEvent} the caller publishes.
+ */
+@Service
+public class BulkDeleteService {
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private FormChangeRepository formChangeRepository;
+
+    @Autowired
+    private FormDocumentRepository formDocumentRepository;
+
+    /**
+     * Deletes a component and all its descendants (found by path).
+     *
+     * @return the number of components deleted
+     */
+    @Transactional
+    public int deleteComponentSubtree(Component component) {
+        componentRepository.detachDescendants(component.getDescendantPathPrefix());
+        return componentRepository.deleteSubtree(component.getId(), component.getDescendantPathPrefix());
+    }
+
+    /**
+     * Deletes a page with all its components.
+     *
+     * @return the number of components deleted
+     */
+    @Transactional
+    public int deletePage(Long pageId) {
+        componentRepository.detachAllOfPage(pageId);
+        int deleted = componentRepository.deleteAllOfPage(pageId);
+        pageRepository.deleteInBulkById(pageId);
+        return deleted;
+    }
+
+    /**
+     * Deletes a form with all its pages, components, change log and rendered document.
+     *
+     * @return the number of components deleted
+     */
+    @Transactional
+    public int deleteForm(Long formId) {
+        componentRepository.detachAllOfForm(formId);
+        int deleted = componentRepository.deleteAllOfForm(formId);
+        pageRepository.deleteAllOfForm(formId);
+        formRepository.deleteInBulkById(formId);
+        formChangeRepository.deleteByFormId(formId);
+        formDocumentRepository.deleteByFormId(formId);
+        return deleted;
+    }
+}
@@ -0,0 +1,80 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.exceptions.ComponentNotFoundException;
+import com.formbuilder.backend.exceptions.InvalidComponentTypeException;
+import com.formbuilder.backend.exceptions.PageNotFoundException;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists whole component subtrees in one transaction. Ids come from pooled sequences, so
+ * Hibernate can send the INSERTs as JDBC batches instead of one round trip per component.
+ */
+@Service
+public class ComponentBulkService {
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private SiblingOrderService siblingOrderService;
+
+    /**
+     * Appends the given subtrees as root components of a page, after the existing ones.
+     */
+    @Transactional
+    public List<Component> createInPage(Long pageId, List<Component> subtrees) {
+        Page page = pageRepository.findById(pageId)
+                .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
+        int firstOrderIndex = siblingOrderService.nextRootComponentOrderIndex(pageId);
+        return persistSubtrees(page, null, firstOrderIndex, subtrees);
+    }
+
+    /**
+     * Appends the given subtrees as children of a component, after its existing children.
+     */
+    @Transactional
+    public List<Component> createUnderParent(Long parentComponentId, List<Component> subtrees) {
+        Component parentComponent = componentRepository.findById(parentComponentId)
+                .orElseThrow(() -> new ComponentNotFoundException("Parent component not found with id: " + parentComponentId));
+        int firstOrderIndex = siblingOrderService.nextChildComponentOrderIndex(parentComponentId);
+        return persistSubtrees(parentComponent.getPage(), parentComponent, firstOrderIndex, subtrees);
+    }
+
+    private List<Component> persistSubtrees(Page page, Component parentComponent, int firstOrderIndex, List<Component> subtrees) {
+        for (int i = 0; i < subtrees.size(); i++) {
+            prepare(subtrees.get(i), page, parentComponent, firstOrderIndex + i * SiblingOrderService.GAP);
+        }
+        // Persisting the roots cascades to every descendant; the INSERTs are flushed on commit
+        return componentRepository.saveAll(subtrees);
+    }
+
+    private void prepare(Component component, Page page, Component parentComponent, int orderIndex) {
+        if (component.getComponentType() == null || component.getComponentType().isBlank()) {
+            throw new InvalidComponentTypeException("componentType is required");
+        }
+        // Always insert new rows, even if the payload was copied from an existing form
+        component.setId(null);
+        component.setPage(page);
+        component.setParentComponent(parentComponent);
+        component.setOrderIndex(orderIndex);
+        if (component.getChildComponents() == null) {
+            component.setChildComponents(new ArrayList<>());
+        }
+        List<Component> children = component.getChildComponents();
+        for (int i = 0; i < children.size(); i++) {
+            prepare(children.get(i), page, component, i * SiblingOrderService.GAP);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.formbuilder.backend.services;
+
+/**
+ * Receives progress updates while {@link FormCopyService} inserts a copied hierarchy.
+ */
+@FunctionalInterface
+public interface CopyProgressListener {
+
+    CopyProgressListener NONE = (copiedComponents, totalComponents) -> {
+    };
+
+    void onProgress(int copiedComponents, int totalComponents);
+}
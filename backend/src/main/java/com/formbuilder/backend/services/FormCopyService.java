@@ -0,0 +1,179 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.exceptions.FormNotFoundException;
+import com.formbuilder.backend.exceptions.PageNotFoundException;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deep-copies forms and pages on the server. The source hierarchy is read with the flat tree
+ * loaders (no per-node lookups) and the copy is inserted in one transaction using batched
+ * INSERTs, flushing every {@link #FLUSH_INTERVAL} components to keep the persistence context small
+ * and reporting progress at each flush.
+ */
+@Service
+public class FormCopyService {
+
+    static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private SiblingOrderService siblingOrderService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Copies a form with all of its pages and components.
+     *
+     * @param name name of the copy, or {@code null} to derive it from the source form
+     * @return id of the new form
+     */
+    @Transactional
+    public Long copyForm(Long formId, String name, CopyProgressListener progressListener) {
+        Form source = formRepository.findTreeById(formId)
+                .orElseThrow(() -> new FormNotFoundException("Form not found with id: " + formId));
+
+        Form copy = new Form(name != null ? name : source.getName() + " (Copy)", source.getDescription());
+        entityManager.persist(copy);
+        Long copyId = copy.getId();
+
+        Progress progress = new Progress(countComponents(source), progressListener);
+        for (Page sourcePage : source.getPages()) {
+            // The form may have been detached by an intermediate clear()
+            copyPage(sourcePage, sourcePage.getName(), sourcePage.getOrderIndex(),
+                    entityManager.getReference(Form.class, copyId), progress);
+        }
+        progress.finish();
+        return copyId;
+    }
+
+    /**
+     * Copies a page with all of its components and appends it to a form.
+     *
+     * @param targetFormId form receiving the copy, or {@code null} for the form of the source page
+     * @param name         name of the copy, or {@code null} to derive it from the source page
+     * @return id of the new page
+     */
+    @Transactional
+    public Long copyPage(Long pageId, Long targetFormId, String name, CopyProgressListener progressListener) {
+        Page source = pageRepository.findTreeById(pageId)
+                .orElseThrow(() -> new PageNotFoundException("Page not found with id: " + pageId));
+        Long formId = targetFormId != null ? targetFormId : pageRepository.findFormIdById(pageId)
+                .orElseThrow(() -> new FormNotFoundException("Page " + pageId + " does not belong to a form"));
+        if (!formRepository.existsById(formId)) {
+            throw new FormNotFoundException("Form not found with id: " + formId);
+        }
+
+        int orderIndex = siblingOrderService.nextPageOrderIndex(formId);
+        Progress progress = new Progress(countComponents(source), progressListener);
+        Long copyId = copyPage(source, name != null ? name : source.getName() + " (Copy)", orderIndex,
+                entityManager.getReference(Form.class, formId), progress);
+        progress.finish();
+        return copyId;
+    }
+
+    /**
+     * Inserts the page, then its components one by one, parents first, so that the persistence
+     * context can be flushed and cleared every {@link #FLUSH_INTERVAL} components however large
+     * a single page is. The copies are linked to their (possibly detached) parents only through
+     * their own foreign keys; no collection of the copy is ever filled.
+     */
+    private Long copyPage(Page source, String name, Integer orderIndex, Form form, Progress progress) {
+        Page copy = new Page(name);
+        copy.setOrderIndex(orderIndex);
+        copy.setForm(form);
+        entityManager.persist(copy);
+        for (Component component : source.getComponents()) {
+            copyComponent(component, copy, null, progress);
+        }
+        return copy.getId();
+    }
+
+    private void copyComponent(Component source, Page page, Component parent, Progress progress) {
+        Component copy = ComponentTypes.newComponent(source.getComponentType(), source.getLabel(), source.getAttributes());
+        copy.setOrderIndex(source.getOrderIndex());
+        copy.setPage(page);
+        copy.setParentComponent(parent);
+        entityManager.persist(copy);
+        progress.copied(1);
+        for (Component child : source.getChildComponents()) {
+            copyComponent(child, page, copy, progress);
+        }
+    }
+
+    private static int countComponents(Form form) {
+        int count = 0;
+        for (Page page : form.getPages()) {
+            count += countComponents(page);
+        }
+        return count;
+    }
+
+    private static int countComponents(Page page) {
+        int count = 0;
+        for (Component component : page.getComponents()) {
+            count += countSubtree(component);
+        }
+        return count;
+    }
+
+    private static int countSubtree(Component component) {
+        int count = 1;
+        for (Component child : component.getChildComponents()) {
+            count += countSubtree(child);
+        }
+        return count;
+    }
+
+    private final class Progress {
+
+        private final int total;
+        private final CopyProgressListener listener;
+        private int copied;
+        private int unflushed;
+
+        private Progress(int total, CopyProgressListener listener) {
+            this.total = total;
+            this.listener = listener != null ? listener : CopyProgressListener.NONE;
+        }
+
+        private void copied(int components) {
+            copied += components;
+            unflushed += components;
+            if (unflushed >= FLUSH_INTERVAL) {
+                flush();
+                listener.onProgress(copied, total);
+            }
+        }
+
+        private void finish() {
+            // Nothing left to report if the last component was just flushed, unless nothing was copied
+            boolean reported = copied > 0 && unflushed == 0;
+            flush();
+            if (!reported) {
+                listener.onProgress(copied, total);
+            }
+        }
+
+        private void flush() {
+            entityManager.flush();
+            entityManager.clear();
+            unflushed = 0;
+        }
+    }
+}
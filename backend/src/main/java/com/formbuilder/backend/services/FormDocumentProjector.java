@@ -0,0 +1,166 @@
+package com.formbuilder.backend.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps {@code form_documents} in step with the relational model: after every committed change to
+ * a form its tree is read back as tuples (see {@link FormRepository#findTreeById}), serialized once
+ * and stored, so that rendering a form is a single-row read with no entity hydration.
+ * <p>
+ * Projections run on a small pool of background threads rather than in the writing request, whose
+ * statement count and latency therefore do not grow with the size of the form. At most one
+ * projection of a form runs at a time; commits arriving meanwhile make it run once more when done,
+ * so a burst of edits is not projected once per edit.
+ * <p>
+ * A document can thus trail the form by one projection; it carries the form version it was read
+ * at, and an older projection never overwrites a newer one.
+ */
+@Service
+public class FormDocumentProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(FormDocumentProjector.class);
+
+    private final FormRepository formRepository;
+    private final FormDocumentRepository formDocumentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor projectors;
+
+    // Forms with a run queued or in progress, mapped to whether another change arrived since it started
+    private final Map<Long, Boolean> runs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FormDocumentProjector(FormRepository formRepository,
+                                 FormDocumentRepository formDocumentRepository,
+                                 ObjectMapper objectMapper,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${formbuilder.documents.projector-threads:2}") int projectorThreads) {
+        this(formRepository, formDocumentRepository, objectMapper, transactionTemplate, projectorPool(projectorThreads));
+    }
+
+    FormDocumentProjector(FormRepository formRepository,
+                          FormDocumentRepository formDocumentRepository,
+                          ObjectMapper objectMapper,
+                          TransactionTemplate transactionTemplate,
+                          Executor projectors) {
+        this.formRepository = formRepository;
+        this.formDocumentRepository = formDocumentRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.projectors = projectors;
+    }
+
+    /**
+     * Runs after the surrounding transaction commits, or immediately when the change was made
+     * outside of a transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFormChanged(FormChangedEvent event) {
+        if (event.formId() != null) {
+            schedule(event.formId());
+        }
+    }
+
+    /**
+     * Projects the form in the background, unless a projection of it is already queued or running;
+     * that one is then told to run again when done.
+     */
+    public void schedule(Long formId) {
+        if (!runs.compute(formId, (id, rerun) -> rerun != null)) {
+            projectors.execute(() -> projectPending(formId));
+        }
+    }
+
+    /**
+     * Writes the current document of a form, or removes it if the form no longer exists.
+     *
+     * @return the document written, empty if the form does not exist
+     */
+    @Transactional
+    public Optional<FormSnapshot> project(Long formId) {
+        Optional<Form> form = formRepository.findTreeById(formId);
+        if (form.isEmpty()) {
+            formDocumentRepository.deleteByFormId(formId);
+            return Optional.empty();
+        }
+        FormSnapshot snapshot = new FormSnapshot(form.get().getVersion(), serialize(form.get()));
+        Instant now = Instant.now();
+        if (formDocumentRepository.replace(formId, snapshot.version(), snapshot.json(), now) == 0
+                && !formDocumentRepository.existsById(formId)) {
+            // First document of this form. Only written if the form still exists, so a form deleted
+            // since its tree was read does not get a document back; a concurrent first projection
+            // surfaces as a duplicate key from this call
+            formDocumentRepository.insertIfFormExists(formId, snapshot.version(), snapshot.json(), now);
+        }
+        return Optional.of(snapshot);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (projectors instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Projects a form until no change arrived during the last run. Only one such loop runs per form,
+     * so a projection that read the tree before a delete is always followed by one that sees it.
+     */
+    private void projectPending(Long formId) {
+        do {
+            try {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> project(formId));
+                } catch (DataIntegrityViolationException e) {
+                    // A direct project() call wrote the first document meanwhile; replace it unless it is newer
+                    transactionTemplate.executeWithoutResult(status -> project(formId));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not project the document of form {}", formId, e);
+            }
+        } while (runs.compute(formId, (id, rerun) -> rerun ? Boolean.FALSE : null) != null);
+    }
+
+    private static ExecutorService projectorPool(int projectorThreads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(projectorThreads, runnable -> {
+            Thread thread = new Thread(runnable, "form-documents-projector-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private byte[] serialize(Form form) {
+        try {
+            return objectMapper.writeValueAsBytes(form);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
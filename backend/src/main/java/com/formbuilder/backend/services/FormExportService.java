@@ -0,0 +1,121 @@
+package com.formbuilder.backend.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.repositories.FormTreeAssembler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Writes every form, one JSON document per line (NDJSON), without materializing the entity graph.
+ * <p>
+ * Forms, pages and components are read through three forward-only cursors ordered by form id and
+ * merged on the fly, so only the form currently being written is held in memory. Rows are read as
+ * tuples, which keeps the persistence context empty for the whole export.
+ */
+@Service
+public class FormExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @return number of forms written
+     */
+    @Transactional(readOnly = true)
+    public int exportAll(OutputStream outputStream) throws IOException {
+        int exported = 0;
+        try (Stream<Tuple> formRows = stream(FormTreeAssembler.FORM_ROW_SELECT + " order by f.id asc");
+             Stream<Tuple> pageRows = stream(FormTreeAssembler.PAGE_ROW_SELECT
+                     + " where p.form is not null order by p.form.id asc, p.orderIndex asc, p.id asc");
+             Stream<Tuple> componentRows = stream(FormTreeAssembler.COMPONENT_ROW_SELECT
+                     + " where p.form is not null order by p.form.id asc, c.orderIndex asc, c.id asc");
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            RowCursor pages = new RowCursor(pageRows.iterator());
+            RowCursor components = new RowCursor(componentRows.iterator());
+
+            for (Iterator<Tuple> forms = formRows.iterator(); forms.hasNext(); ) {
+                Form form = FormTreeAssembler.toForm(forms.next());
+
+                Map<Long, Page> pagesById = new LinkedHashMap<>();
+                for (Tuple row : pages.takeRowsOf(form.getId())) {
+                    Page page = FormTreeAssembler.toPage(row);
+                    form.addPage(page);
+                    pagesById.put(page.getId(), page);
+                }
+                FormTreeAssembler.attachComponents(components.takeRowsOf(form.getId()), pagesById);
+
+                objectMapper.writeValue(generator, form);
+                exported++;
+            }
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return exported;
+    }
+
+    private Stream<Tuple> stream(String query) {
+        return entityManager.createQuery(query, Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Forward-only cursor over rows sorted by their "formId" alias.
+     */
+    private static final class RowCursor {
+
+        private final Iterator<Tuple> rows;
+        private Tuple next;
+
+        private RowCursor(Iterator<Tuple> rows) {
+            this.rows = rows;
+            advance();
+        }
+
+        /**
+         * Skips rows of forms before {@code formId} and returns the rows belonging to it.
+         */
+        private List<Tuple> takeRowsOf(Long formId) {
+            while (next != null && next.get("formId", Long.class) < formId) {
+                advance();
+            }
+            List<Tuple> taken = new ArrayList<>();
+            while (next != null && next.get("formId", Long.class).equals(formId)) {
+                taken.add(next);
+                advance();
+            }
+            return taken;
+        }
+
+        private void advance() {
+            next = rows.hasNext() ? rows.next() : null;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.exceptions.ComponentNotFoundException;
+import com.formbuilder.backend.exceptions.InvalidComponentMoveException;
+import com.formbuilder.backend.exceptions.InvalidPageMoveException;
+import com.formbuilder.backend.exceptions.PageNotFoundException;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Orders siblings (the pages of a form, the root components of a page, the children of a
+ * component) by sparse orderIndex keys, {@link #GAP} apart. Placing an item between two others
+ * gives it the midpoint of their keys, so a move updates that one row. Only when two neighbours
+ * have no key left between them are all siblings renumbered, in one JDBC batch.
+ * <p>
+ * Keys are compared with ties broken by id, so dense or duplicate keys from older data still read
+ * in a stable order; the first move into such a spot renumbers the container.
+ * <p>
+ * The ordered collections (Form.pages, Page.components, Component.childComponents) are held in the
+ * second-level cache as id lists. Hibernate only evicts those when a child changes owner, not when
+ * its orderIndex changes, so anything that reorders siblings must evict the container's list
+ * through one of the {@code evict*Order} methods (placing does it itself).
+ */
+@Service
+public class SiblingOrderService {
+
+    public static final int GAP = 1024;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Key for an item appended after the existing root components of a page.
+     */
+    @Transactional(readOnly = true)
+    public int nextRootComponentOrderIndex(Long pageId) {
+        return nextOrderIndex(Siblings.rootComponents(pageId));
+    }
+
+    /**
+     * Key for an item appended after the existing children of a component.
+     */
+    @Transactional(readOnly = true)
+    public int nextChildComponentOrderIndex(Long parentComponentId) {
+        return nextOrderIndex(Siblings.childComponents(parentComponentId));
+    }
+
+    /**
+     * Key for a page appended after the existing pages of a form.
+     */
+    @Transactional(readOnly = true)
+    public int nextPageOrderIndex(Long formId) {
+        return nextOrderIndex(Siblings.pages(formId));
+    }
+
+    /**
+     * Drops the cached order of a page's root components once the transaction commits.
+     */
+    public void evictRootComponentOrder(Long pageId) {
+        evictAfterCommit(Siblings.rootComponents(pageId));
+    }
+
+    /**
+     * Drops the cached order of a component's children once the transaction commits.
+     */
+    public void evictChildComponentOrder(Long parentComponentId) {
+        evictAfterCommit(Siblings.childComponents(parentComponentId));
+    }
+
+    /**
+     * Drops the cached order of a form's pages once the transaction commits.
+     */
+    public void evictPageOrder(Long formId) {
+        evictAfterCommit(Siblings.pages(formId));
+    }
+
+    /**
+     * Drops the cached order of the siblings a component currently sits among.
+     */
+    public void evictComponentOrder(Component component) {
+        evictAfterCommit(siblingsOf(component));
+    }
+
+    /**
+     * Places a component right after {@code afterId} or right before {@code beforeId} (exactly one
+     * must be given), which must be a sibling in the component's current page or parent.
+     *
+     * @return ids of all siblings in their new order if they had to be renumbered, otherwise an
+     * empty list (only the component itself was updated)
+     */
+    @Transactional
+    public List<Long> placeComponent(Component component, Long afterId, Long beforeId) {
+        requireOneAnchor(afterId, beforeId);
+        Long anchorId = afterId != null ? afterId : beforeId;
+        Component anchor = entityManager.find(Component.class, anchorId);
+        if (anchor == null) {
+            throw new ComponentNotFoundException("Component not found with id: " + anchorId);
+        }
+        Siblings<Component> siblings = siblingsOf(component);
+        if (anchor == component || !siblings.contains(anchor)) {
+            throw new InvalidComponentMoveException("Component " + anchorId + " is not a sibling of component " + component.getId());
+        }
+        return place(siblings, component, anchor, afterId != null);
+    }
+
+    /**
+     * Places a page right after {@code afterId} or right before {@code beforeId} (exactly one must
+     * be given), which must be another page of the same form.
+     *
+     * @return ids of all pages of the form in their new order if they had to be renumbered,
+     * otherwise an empty list (only the page itself was updated)
+     */
+    @Transactional
+    public List<Long> placePage(Page page, Long afterId, Long beforeId) {
+        requireOneAnchor(afterId, beforeId);
+        Long anchorId = afterId != null ? afterId : beforeId;
+        Page anchor = entityManager.find(Page.class, anchorId);
+        if (anchor == null) {
+            throw new PageNotFoundException("Page not found with id: " + anchorId);
+        }
+        Siblings<Page> siblings = Siblings.pages(page.getForm() != null ? page.getForm().getId() : null);
+        if (anchor == page || !siblings.contains(anchor)) {
+            throw new InvalidPageMoveException("Page " + anchorId + " is not another page of the form of page " + page.getId());
+        }
+        return place(siblings, page, anchor, afterId != null);
+    }
+
+    private static void requireOneAnchor(Long afterId, Long beforeId) {
+        if ((afterId == null) == (beforeId == null)) {
+            throw new IllegalArgumentException("Exactly one of afterId and beforeId is required");
+        }
+    }
+
+    private static Siblings<Component> siblingsOf(Component component) {
+        return component.getParentComponent() != null
+                ? Siblings.childComponents(component.getParentComponent().getId())
+                : Siblings.rootComponents(component.getPage() != null ? component.getPage().getId() : null);
+    }
+
+    /**
+     * Not before commit: a concurrent read could then cache the old order again before the new
+     * keys are visible to it.
+     */
+    private void evictAfterCommit(Siblings<?> siblings) {
+        if (siblings.containerId == null) {
+            return;
+        }
+        org.hibernate.Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(org.hibernate.Cache.class);
+        Runnable evict = () -> cache.evictCollectionData(siblings.collectionRole, siblings.containerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private <T> List<Long> place(Siblings<T> siblings, T item, T anchor, boolean after) {
+        evictAfterCommit(siblings);
+        Integer anchorKey = siblings.key.apply(anchor);
+        if (anchorKey != null) {
+            Integer neighbourKey = neighbourKey(siblings, item, anchor, anchorKey, after);
+            long low = after ? anchorKey : neighbourKey != null ? neighbourKey : (long) anchorKey - 2L * GAP;
+            long high = after ? (neighbourKey != null ? neighbourKey : (long) anchorKey + 2L * GAP) : anchorKey;
+            if (high - low >= 2 && low >= Integer.MIN_VALUE && high <= Integer.MAX_VALUE) {
+                siblings.setKey.accept(item, (int) ((low + high) / 2));
+                return List.of();
+            }
+        }
+        return renumber(siblings, item, anchor, after);
+    }
+
+    /**
+     * Key of the sibling next to the anchor on the side the item goes to, ignoring the item itself.
+     */
+    private <T> Integer neighbourKey(Siblings<T> siblings, T item, T anchor, int anchorKey, boolean after) {
+        String jpql = "select " + (after ? "min" : "max") + "(s.orderIndex) from " + siblings.entityName + " s"
+                + " where " + siblings.condition + " and s.id <> :itemId"
+                + " and (s.orderIndex " + (after ? ">" : "<") + " :anchorKey"
+                + " or (s.orderIndex = :anchorKey and s.id " + (after ? ">" : "<") + " :anchorId))";
+        return entityManager.createQuery(jpql, Integer.class)
+                .setParameter("containerId", siblings.containerId)
+                .setParameter("itemId", siblings.id.apply(item))
+                .setParameter("anchorKey", anchorKey)
+                .setParameter("anchorId", siblings.id.apply(anchor))
+                .getSingleResult();
+    }
+
+    private <T> List<Long> renumber(Siblings<T> siblings, T item, T anchor, boolean after) {
+        List<T> ordered = new ArrayList<>(entityManager.createQuery(
+                        "select s from " + siblings.entityName + " s where " + siblings.condition, siblings.type)
+                .setParameter("containerId", siblings.containerId)
+                .getResultList());
+        ordered.sort(Comparator.comparing(siblings.key, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+                .thenComparing(siblings.id));
+        ordered.remove(item);
+        int anchorIndex = ordered.indexOf(anchor);
+        ordered.add(after ? anchorIndex + 1 : anchorIndex, item);
+
+        List<Long> ids = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            siblings.setKey.accept(ordered.get(i), i * GAP);
+            ids.add(siblings.id.apply(ordered.get(i)));
+        }
+        return ids;
+    }
+
+    private int nextOrderIndex(Siblings<?> siblings) {
+        Integer max = entityManager.createQuery(
+                        "select max(s.orderIndex) from " + siblings.entityName + " s where " + siblings.condition, Integer.class)
+                .setParameter("containerId", siblings.containerId)
+                .getSingleResult();
+        return max != null ? max + GAP : 0;
+    }
+
+    /**
+     * One container of siblings: a JPQL condition on {@code s} selecting them, the role of the
+     * container's cached collection, and accessors for their keys and ids.
+     */
+    private record Siblings<T>(Class<T> type, String entityName, String condition, String collectionRole, Long containerId,
+                               Function<T, Integer> key, BiConsumer<T, Integer> setKey, Function<T, Long> id,
+                               Function<T, Long> containerOf) {
+
+        static Siblings<Component> rootComponents(Long pageId) {
+            return new Siblings<>(Component.class, "Component", "s.page.id = :containerId and s.parentComponent is null",
+                    Page.class.getName() + ".components", pageId, Component::getOrderIndex, Component::setOrderIndex, Component::getId,
+                    c -> c.getParentComponent() == null && c.getPage() != null ? c.getPage().getId() : null);
+        }
+
+        static Siblings<Component> childComponents(Long parentComponentId) {
+            return new Siblings<>(Component.class, "Component", "s.parentComponent.id = :containerId",
+                    Component.class.getName() + ".childComponents", parentComponentId, Component::getOrderIndex, Component::setOrderIndex, Component::getId,
+                    c -> c.getParentComponent() != null ? c.getParentComponent().getId() : null);
+        }
+
+        static Siblings<Page> pages(Long formId) {
+            return new Siblings<>(Page.class, "Page", "s.form.id = :containerId",
+                    Form.class.getName() + ".pages", formId, Page::getOrderIndex, Page::setOrderIndex, Page::getId,
+                    p -> p.getForm() != null ? p.getForm().getId() : null);
+        }
+
+        boolean contains(T candidate) {
+            return containerId != null && containerId.equals(containerOf.apply(candidate));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- The order indexes from V5 and V6, for file databases that were created before Flyway managed
+-- the schema: those already had the order_index columns, so they are baselined at version 6 (see
+-- application-file.properties) and never ran V5 or V6. A no-op everywhere else.
+CREATE INDEX IF NOT EXISTS idx_pages_form_order ON pages(form_id, order_index);
+CREATE INDEX IF NOT EXISTS idx_components_page_order ON components(page_id, order_index);
+CREATE INDEX IF NOT EXISTS idx_components_parent_order ON components(parent_component_id, order_index);
@@ -0,0 +1,55 @@
+-- Baseline schema: forms, pages, components and the form change log as the entities needed them
+-- when Flyway took over the schema (including version, path/depth, form_changes and the pooled
+-- sequences), minus the order_index columns and their indexes, which come from V5 and V6.
+-- File databases created before then by db/schema-h2.sql already had order_index: the file profile
+-- baselines them at version 6 instead of running this script.
+
+-- Sequence increments must match the entities' allocationSize (pooled ids)
+CREATE SEQUENCE forms_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE pages_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE components_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE forms (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    last_modified TIMESTAMP(6) WITH TIME ZONE,
+    version BIGINT,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_forms_name ON forms(name);
+
+CREATE TABLE pages (
+    id BIGINT NOT NULL,
+    name VARCHAR(255),
+    form_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pages_form FOREIGN KEY (form_id) REFERENCES forms(id)
+);
+
+CREATE TABLE components (
+    id BIGINT NOT NULL,
+    component_type VARCHAR(255),
+    label VARCHAR(255),
+    path VARCHAR(1024) NOT NULL,
+    depth INTEGER NOT NULL,
+    attributes CLOB,
+    page_id BIGINT,
+    parent_component_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_components_page FOREIGN KEY (page_id) REFERENCES pages(id),
+    CONSTRAINT fk_components_parent FOREIGN KEY (parent_component_id) REFERENCES components(id)
+);
+CREATE INDEX idx_components_path ON components(path);
+
+CREATE TABLE form_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    form_id BIGINT NOT NULL,
+    seq BIGINT,
+    type VARCHAR(32) NOT NULL,
+    entity_id BIGINT,
+    data CLOB,
+    created_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_form_changes_form_seq ON form_changes(form_id, seq);
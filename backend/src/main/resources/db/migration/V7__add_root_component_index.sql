@@ -0,0 +1,4 @@
+-- Root components of a page: findByPageIdAndParentComponentIsNull and the Page.components
+-- collection (parent_component_id IS NULL, ordered by order_index) are answered from this index
+-- alone, without a sort
+CREATE INDEX idx_components_page_parent_order ON components(page_id, parent_component_id, order_index);
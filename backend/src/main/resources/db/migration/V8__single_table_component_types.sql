@@ -0,0 +1,7 @@
+-- Component subclasses share the components table and are told apart by component_type,
+-- which therefore can no longer be NULL
+UPDATE components SET component_type = 'UNKNOWN' WHERE component_type IS NULL;
+ALTER TABLE components ALTER COLUMN component_type SET NOT NULL;
+
+-- Index on the discriminator, for queries restricted to one component type
+CREATE INDEX idx_components_type ON components(component_type);
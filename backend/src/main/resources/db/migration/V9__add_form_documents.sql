@@ -0,0 +1,10 @@
+-- Read-side projection: the serialized tree of each form (the GET /api/forms/{formId} JSON),
+-- rewritten by FormDocumentProjector after every committed change to the form. No foreign key, so
+-- that deleting a form in bulk needs no extra ordering; BulkDeleteService drops the row as well.
+CREATE TABLE form_documents (
+    form_id BIGINT NOT NULL,
+    version BIGINT,
+    document BLOB NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (form_id)
+);
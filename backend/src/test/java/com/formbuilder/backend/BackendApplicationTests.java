@@ -3,6 +3,7 @@ package com.formbuilder.backend;
 import com.formbuilder.backend.models.Component;
 import com.formbuilder.backend.models.Form;
 import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
 import com.formbuilder.backend.repositories.ComponentRepository;
 import com.formbuilder.backend.repositories.FormRepository;
 import com.formbuilder.backend.repositories.PageRepository;
@@ -40,21 +41,21 @@ class BackendApplicationTests {
 
         // Create Page 1
         Page page1 = new Page("Personal Information");
-        Component textInput = new Component("TEXT_INPUT", "Name", "{\"placeholder\": \"Enter your name\"}");
+        Component textInput = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{\"placeholder\": \"Enter your name\"}");
         page1.addComponent(textInput);
         form.addPage(page1);
 
         // Create Page 2
         Page page2 = new Page("Contact Details");
-        Component checkboxGroup = new Component("CHECKBOX_GROUP", "Interests", "{\"options\": [\"Coding\", \"Reading\"]}");
-        Component submitButton = new Component("BUTTON", "Submit", "{\"type\": \"submit\"}");
+        Component checkboxGroup = ComponentTypes.newComponent("CHECKBOX_GROUP", "Interests", "{\"options\": [\"Coding\", \"Reading\"]}");
+        Component submitButton = ComponentTypes.newComponent("BUTTON", "Submit", "{\"type\": \"submit\"}");
         page2.addComponent(checkboxGroup);
         page2.addComponent(submitButton);
         form.addPage(page2);
 
         // Create a nested component
-        Component parentComponent = new Component("CONTAINER", "Address", "{}");
-        Component streetInput = new Component("TEXT_INPUT", "Street", "{\"placeholder\": \"Enter street\"}");
+        Component parentComponent = ComponentTypes.newComponent("CONTAINER", "Address", "{}");
+        Component streetInput = ComponentTypes.newComponent("TEXT_INPUT", "Street", "{\"placeholder\": \"Enter street\"}");
         parentComponent.addChildComponent(streetInput);
         page1.addComponent(parentComponent);
 
@@ -0,0 +1,102 @@
+package com.formbuilder.backend;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application with the {@code file} profile on a database file that already exists.
+ */
+class FileStorageProfileTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restart_givenFileProfile_thenKeepsDataWithoutReseeding() {
+        Long formId;
+        long formCount;
+        try (ConfigurableApplicationContext context = start()) {
+            FormRepository formRepository = context.getBean(FormRepository.class);
+            Form form = new Form("Durable Form", "Survives restarts");
+            Page page = new Page("Page");
+            form.addPage(page);
+            Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+            page.addComponent(panel);
+            Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+            field.setPage(page);
+            panel.addChildComponent(field);
+            formId = formRepository.save(form).getId();
+            formCount = formRepository.count();
+        }
+        assertThat(Files.exists(directory.resolve("formbuilder.mv.db"))).isTrue();
+
+        try (ConfigurableApplicationContext context = start()) {
+            FormRepository formRepository = context.getBean(FormRepository.class);
+            Form form = formRepository.findTreeById(formId).orElseThrow();
+
+            assertThat(formRepository.count()).isEqualTo(formCount);
+            assertThat(form.getName()).isEqualTo("Durable Form");
+            assertThat(form.getPages().get(0).getComponents().get(0).getChildComponents())
+                    .extracting(Component::getLabel).containsExactly("Field");
+            // Ids handed out after the restart come from the persisted sequences
+            assertThat(formRepository.save(new Form("After restart", null)).getId()).isGreaterThan(formId);
+        }
+    }
+
+    @Test
+    void start_givenDatabaseCreatedBeforeFlyway_thenBaselinesAndKeepsData() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:nioMapped:" + directory.toAbsolutePath() + "/formbuilder", "sa", "password");
+             Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy-schema-h2.sql"));
+            statement.execute("insert into forms (id, name, version) values (1, 'Legacy Form', 0)");
+            statement.execute("insert into pages (id, name, order_index, form_id) values (1, 'Page', 0, 1)");
+            statement.execute("insert into components (id, component_type, label, order_index, path, depth, "
+                    + "attributes, page_id) values (1, 'TEXT_INPUT', 'Field', 0, '/', 0, '{}', 1)");
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            Form form = context.getBean(FormRepository.class).findTreeById(1L).orElseThrow();
+            assertThat(form.getName()).isEqualTo("Legacy Form");
+            assertThat(form.getPages().get(0).getComponents())
+                    .extracting(Component::getLabel).containsExactly("Field");
+
+            Flyway flyway = context.getBean(Flyway.class);
+            assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                    .containsExactly("6", "7", "8", "9", "10");
+            assertThat(context.getBean(JdbcTemplate.class).queryForObject(
+                    "select count(*) from information_schema.indexes where index_name = 'IDX_COMPONENTS_PARENT_ORDER'",
+                    Integer.class)).isEqualTo(1);
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("file")
+                .properties(
+                        "server.port=0",
+                        "formbuilder.storage.directory=" + directory.toAbsolutePath())
+                .run();
+    }
+}
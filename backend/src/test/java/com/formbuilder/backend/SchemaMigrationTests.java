@@ -0,0 +1,42 @@
+package com.formbuilder.backend;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The schema is built by the Flyway migrations; Hibernate validates the entities against it when
+ * the context starts, so a mismatch fails every JPA test before this one.
+ */
+@DataJpaTest
+class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrate_thenAppliesEveryVersion() {
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                .containsExactly("1", "5", "6", "7", "8", "9", "10");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void rootComponentQuery_thenUsesCoveringIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM components WHERE page_id = 1 AND parent_component_id IS NULL ORDER BY order_index",
+                String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_components_page_parent_order");
+    }
+}
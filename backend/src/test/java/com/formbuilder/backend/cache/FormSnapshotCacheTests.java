@@ -0,0 +1,55 @@
+package com.formbuilder.backend.cache;
+
+import com.formbuilder.backend.events.FormChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormSnapshotCacheTests {
+
+    @Test
+    void put_givenCurrentStamp_thenServeSnapshot() {
+        FormSnapshotCache cache = new FormSnapshotCache(1024);
+        FormSnapshot snapshot = new FormSnapshot(1L, new byte[]{1, 2, 3});
+
+        cache.put(1L, snapshot, cache.readStamp());
+
+        assertThat(cache.getIfPresent(1L)).isSameAs(snapshot);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_givenInvalidationDuringRead_thenDropSnapshot() {
+        FormSnapshotCache cache = new FormSnapshotCache(1024);
+        long readStamp = cache.readStamp();
+
+        cache.onFormChanged(new FormChangedEvent(1L));
+        cache.put(1L, new FormSnapshot(1L, new byte[]{1}), readStamp);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onFormChanged_thenEvictOnlyThatForm() {
+        FormSnapshotCache cache = new FormSnapshotCache(1024);
+        cache.put(1L, new FormSnapshot(1L, new byte[]{1}), cache.readStamp());
+        cache.put(2L, new FormSnapshot(1L, new byte[]{2}), cache.readStamp());
+
+        cache.onFormChanged(new FormChangedEvent(1L));
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.getIfPresent(2L)).isNotNull();
+    }
+
+    @Test
+    void put_givenSnapshotsOverMaximumWeight_thenEvict() {
+        FormSnapshotCache cache = new FormSnapshotCache(100);
+        for (long formId = 1; formId <= 10; formId++) {
+            cache.put(formId, new FormSnapshot(1L, new byte[40]), cache.readStamp());
+        }
+
+        assertThat((Long) cache.describe().get("weightBytes")).isLessThanOrEqualTo(100L);
+        assertThat(cache.stats().evictionCount()).isGreaterThan(0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.formbuilder.backend.cache;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.formbuilder.backend.metrics.QueryBudgetMatchers.statementCount;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecondLevelCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    private Page page;
+    private Component panel;
+
+    @BeforeEach
+    void setUp() {
+        Form form = new Form("Cached Form", null);
+        page = new Page("Cached Page");
+        form.addPage(page);
+        panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        for (int i = 0; i < 3; i++) {
+            Component child = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            child.setOrderIndex(i);
+            child.setPage(page);
+            panel.addChildComponent(child);
+        }
+        formRepository.save(form);
+    }
+
+    @Test
+    void getPageById_givenRepeatedReads_thenServedWithoutSql() throws Exception {
+        mockMvc.perform(get("/api/pages/" + page.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pages/" + page.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components[0].childComponents", hasSize(3)))
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void getComponentById_givenRepeatedReads_thenServedWithoutSql() throws Exception {
+        mockMvc.perform(get("/api/components/" + panel.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/components/" + panel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childComponents", hasSize(3)))
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void getPageById_givenWritesToAnotherFormAfterCaching_thenStillServedWithoutSql() throws Exception {
+        Form other = new Form("Other Form", null);
+        Page otherPage = new Page("Other Page");
+        other.addPage(otherPage);
+        Component otherPanel = ComponentTypes.newComponent("PANEL", "Other Panel", "{}");
+        otherPage.addComponent(otherPanel);
+        Component otherField = ComponentTypes.newComponent("TEXT_INPUT", "Other Field", "{}");
+        otherPage.addComponent(otherField);
+        formRepository.save(other);
+        mockMvc.perform(get("/api/pages/" + page.getId())).andExpect(status().isOk());
+
+        // Bumps the other form's version, and moves a leaf (no descendants to rewrite)
+        mockMvc.perform(put("/api/components/" + otherField.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\": \"TEXT_INPUT\", \"label\": \"Renamed\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/components/" + otherField.getId() + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetParentComponentId\": " + otherPanel.getId() + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pages/" + page.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components[0].childComponents", hasSize(3)))
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void getPageById_givenComponentAddedAfterCaching_thenCollectionIsReloaded() throws Exception {
+        mockMvc.perform(get("/api/pages/" + page.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/components/" + panel.getId() + "/components")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\": \"CHECKBOX\", \"label\": \"Added\", \"attributes\": \"{}\", \"orderIndex\": 3}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/pages/" + page.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components[0].childComponents", hasSize(4)))
+                .andExpect(jsonPath("$.components[0].childComponents[3].label", is("Added")));
+    }
+
+    @Test
+    void getPageById_givenChildrenReorderedAfterCaching_thenReturnsNewOrder() throws Exception {
+        mockMvc.perform(get("/api/pages/" + page.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components[0].childComponents[0].label", is("Field 0")));
+        List<Component> children = panel.getChildComponents();
+
+        mockMvc.perform(put("/api/components/" + panel.getId() + "/components/reorder")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentIds\": [" + children.get(2).getId() + ", " + children.get(1).getId()
+                                + ", " + children.get(0).getId() + "]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pages/" + page.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components[0].childComponents[*].label", contains("Field 2", "Field 1", "Field 0")));
+    }
+
+    @Test
+    void getComponentById_givenChildPositionedAfterCaching_thenReturnsNewOrder() throws Exception {
+        mockMvc.perform(get("/api/components/" + panel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childComponents[0].label", is("Field 0")));
+        List<Component> children = panel.getChildComponents();
+
+        mockMvc.perform(put("/api/components/" + children.get(2).getId() + "/position")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"beforeId\": " + children.get(0).getId() + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/components/" + panel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childComponents[*].label", contains("Field 2", "Field 0", "Field 1")));
+    }
+
+    @Test
+    void getComponentById_givenUpdateAfterCaching_thenReturnsNewLabel() throws Exception {
+        mockMvc.perform(get("/api/components/" + panel.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/components/" + panel.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\": \"PANEL\", \"label\": \"Renamed\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/components/" + panel.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label", is("Renamed")));
+    }
+}
@@ -1,24 +1,39 @@
 package com.formbuilder.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.events.FormDeltaEvent;
 import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormChange;
 import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
 import com.formbuilder.backend.repositories.ComponentRepository;
 import com.formbuilder.backend.repositories.PageRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.ComponentBulkService;
+import com.formbuilder.backend.services.SiblingOrderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,6 +41,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 @WebMvcTest(ComponentController.class)
+@RecordApplicationEvents
 public class ComponentControllerTests {
 
     @Autowired
@@ -37,15 +53,27 @@ public class ComponentControllerTests {
     @MockBean
     private PageRepository pageRepository;
 
+    @MockBean
+    private ComponentBulkService componentBulkService;
+
+    @MockBean
+    private BulkDeleteService bulkDeleteService;
+
+    @MockBean
+    private SiblingOrderService siblingOrderService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     public void whenCreateComponentInPage_givenValidPageId_thenReturnCreatedComponent() throws Exception {
         Page page = new Page("Home Page");
         page.setId(1L);
-        Component component = new Component("TEXT_INPUT", "Name", "{}");
-        Component savedComponent = new Component("TEXT_INPUT", "Name", "{}");
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        Component savedComponent = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
         savedComponent.setId(100L);
         savedComponent.setPage(page);
 
@@ -60,16 +88,50 @@ public class ComponentControllerTests {
                 .andExpect(jsonPath("$.label", is("Name")));
     }
 
+    @Test
+    public void whenCreateComponentInPage_givenPageOfForm_thenPublishFormChange() throws Exception {
+        Form form = new Form("Test Form", "Description");
+        form.setId(5L);
+        Page page = new Page("Home Page");
+        page.setId(1L);
+        page.setForm(form);
+        Component savedComponent = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        savedComponent.setId(100L);
+
+        given(pageRepository.findById(1L)).willReturn(Optional.of(page));
+        given(componentRepository.save(any(Component.class))).willReturn(savedComponent);
+
+        mockMvc.perform(post("/api/pages/1/components")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}"))))
+                .andExpect(status().isCreated());
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(5L));
+    }
+
+    @Test
+    public void whenDeleteComponent_givenComponentOfForm_thenPublishFormChange() throws Exception {
+        when(componentRepository.existsById(100L)).thenReturn(true);
+        when(componentRepository.findFormIdById(100L)).thenReturn(Optional.of(5L));
+
+        mockMvc.perform(delete("/api/components/100"))
+                .andExpect(status().isNoContent());
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(5L));
+    }
+
     @Test
     public void whenCreateNestedComponent_givenValidParentId_thenReturnCreatedComponent() throws Exception {
-        Component parentComponent = new Component("CONTAINER", "Parent", "{}");
+        Component parentComponent = ComponentTypes.newComponent("CONTAINER", "Parent", "{}");
         parentComponent.setId(100L);
         Page page = new Page("Home Page");
         page.setId(1L);
         parentComponent.setPage(page); // Parent component must be associated with a page
 
-        Component childComponent = new Component("TEXT_INPUT", "Child", "{}");
-        Component savedChildComponent = new Component("TEXT_INPUT", "Child", "{}");
+        Component childComponent = ComponentTypes.newComponent("TEXT_INPUT", "Child", "{}");
+        Component savedChildComponent = ComponentTypes.newComponent("TEXT_INPUT", "Child", "{}");
         savedChildComponent.setId(101L);
         savedChildComponent.setParentComponent(parentComponent);
         savedChildComponent.setPage(page);
@@ -91,10 +153,10 @@ public class ComponentControllerTests {
     public void whenGetAllComponentsForPage_givenValidPageId_thenReturnComponentList() throws Exception {
         Page page = new Page();
         page.setId(1L);
-        Component component1 = new Component("TEXT_INPUT", "Comp1", "{}");
+        Component component1 = ComponentTypes.newComponent("TEXT_INPUT", "Comp1", "{}");
         component1.setId(100L);
         component1.setPage(page);
-        Component component2 = new Component("CHECKBOX", "Comp2", "{}");
+        Component component2 = ComponentTypes.newComponent("CHECKBOX", "Comp2", "{}");
         component2.setId(101L);
         component2.setPage(page);
         List<Component> components = Arrays.asList(component1, component2);
@@ -112,7 +174,7 @@ public class ComponentControllerTests {
     public void whenGetAllChildComponents_givenValidParentId_thenReturnChildComponentList() throws Exception {
         Component parent = new Component();
         parent.setId(100L);
-        Component child1 = new Component("TEXT_INPUT", "Child1", "{}");
+        Component child1 = ComponentTypes.newComponent("TEXT_INPUT", "Child1", "{}");
         child1.setId(101L);
         child1.setParentComponent(parent);
          List<Component> childComponents = Arrays.asList(child1);
@@ -129,7 +191,7 @@ public class ComponentControllerTests {
 
     @Test
     public void whenGetComponentById_givenExistingId_thenReturnComponent() throws Exception {
-        Component component = new Component("TEXT_INPUT", "My Component", "{}");
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "My Component", "{}");
         component.setId(100L);
         given(componentRepository.findById(100L)).willReturn(Optional.of(component));
 
@@ -139,11 +201,282 @@ public class ComponentControllerTests {
     }
 
     @Test
-    public void whenDeleteComponent_givenExistingId_thenReturnNoContent() throws Exception {
-        when(componentRepository.existsById(100L)).thenReturn(true);
-        doNothing().when(componentRepository).deleteById(100L);
+    public void whenGetComponentById_givenFormChangedSinceETag_thenReturnComponent() throws Exception {
+        Form form = new Form();
+        form.setId(1L);
+        form.setVersion(6L);
+        Page page = new Page("Home Page");
+        page.setForm(form);
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "My Component", "{}");
+        component.setId(100L);
+        component.setPage(page);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+
+        mockMvc.perform(get("/api/components/100").header("If-None-Match", "\"1.5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.6\""))
+                .andExpect(jsonPath("$.label", is("My Component")));
+    }
+
+    @Test
+    public void whenGetComponentSubtree_givenMaxDepth_thenReturnAssembledTree() throws Exception {
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        panel.setId(100L);
+        Component child = ComponentTypes.newComponent("TEXT_INPUT", "Child", "{}");
+        child.setId(101L);
+        panel.addChildComponent(child);
+        given(componentRepository.findSubtreeById(100L, 2)).willReturn(Optional.of(panel));
+
+        mockMvc.perform(get("/api/components/100/subtree").param("maxDepth", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label", is("Panel")))
+                .andExpect(jsonPath("$.childComponents[0].label", is("Child")));
+
+        verify(componentRepository, never()).findByParentComponentId(anyLong());
+    }
+
+    @Test
+    public void whenGetComponentSubtree_givenUnknownId_thenReturnNotFound() throws Exception {
+        given(componentRepository.findSubtreeById(999L, null)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/components/999/subtree"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void whenDeleteComponent_givenExistingId_thenDeleteSubtreeByPath() throws Exception {
+        Component component = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        component.setId(100L);
+        when(componentRepository.findById(100L)).thenReturn(Optional.of(component));
 
         mockMvc.perform(delete("/api/components/100"))
                 .andExpect(status().isNoContent());
+
+        verify(bulkDeleteService).deleteComponentSubtree(component);
+        verify(componentRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    public void whenCreateComponentInPage_givenNoOrderIndex_thenAppendAfterExistingComponents() throws Exception {
+        Page page = new Page("Home Page");
+        page.setId(1L);
+        given(pageRepository.findById(1L)).willReturn(Optional.of(page));
+        given(siblingOrderService.nextRootComponentOrderIndex(1L)).willReturn(2 * SiblingOrderService.GAP);
+        given(componentRepository.save(any(Component.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/pages/1/components")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentType\": \"TEXT_INPUT\", \"label\": \"Name\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderIndex", is(2 * SiblingOrderService.GAP)));
+    }
+
+    @Test
+    public void whenCreateNestedComponent_givenNoOrderIndex_thenAppendAfterExistingChildren() throws Exception {
+        Component parent = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        parent.setId(100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(parent));
+        given(siblingOrderService.nextChildComponentOrderIndex(100L)).willReturn(SiblingOrderService.GAP);
+        given(componentRepository.save(any(Component.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/components/100/components")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentType\": \"TEXT_INPUT\", \"label\": \"Child\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderIndex", is(SiblingOrderService.GAP)));
+    }
+
+    @Test
+    public void whenCreateComponentInPage_givenNoComponentType_thenReturnBadRequest() throws Exception {
+        Page page = new Page("Home Page");
+        page.setId(1L);
+        given(pageRepository.findById(1L)).willReturn(Optional.of(page));
+
+        mockMvc.perform(post("/api/pages/1/components")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"label\": \"Name\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    @Test
+    public void whenUpdateComponent_givenSameType_thenUpdateLabelAndAttributes() throws Exception {
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        component.setId(100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+        given(componentRepository.save(any(Component.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(put("/api/components/100")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentType\": \"TEXT_INPUT\", \"label\": \"Full name\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.componentType", is("TEXT_INPUT")))
+                .andExpect(jsonPath("$.label", is("Full name")));
+    }
+
+    @Test
+    public void whenUpdateComponent_givenOtherType_thenReturnBadRequest() throws Exception {
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        component.setId(100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+
+        mockMvc.perform(put("/api/components/100")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentType\": \"CHECKBOX\", \"label\": \"Name\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(component.getComponentType()).isEqualTo("TEXT_INPUT");
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    @Test
+    public void whenUpdateComponent_givenNoComponentType_thenReturnBadRequest() throws Exception {
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        component.setId(100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+
+        mockMvc.perform(put("/api/components/100")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"label\": \"Name\", \"attributes\": \"{}\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    @Test
+    public void whenMoveComponent_givenOwnDescendantAsTarget_thenReturnBadRequest() throws Exception {
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        panel.setId(100L);
+        Component nested = ComponentTypes.newComponent("PANEL", "Nested", "{}");
+        nested.setId(101L);
+        panel.addChildComponent(nested);
+        nested.updatePath();
+        Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+        field.setId(102L);
+        nested.addChildComponent(field);
+        field.updatePath();
+
+        given(componentRepository.findById(100L)).willReturn(Optional.of(panel));
+        given(componentRepository.findById(102L)).willReturn(Optional.of(field));
+
+        mockMvc.perform(put("/api/components/100/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"targetParentComponentId\": 102}"))
+                .andExpect(status().isBadRequest());
+
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    @Test
+    public void whenReorderComponentsInPage_givenComponentIds_thenApplyOrderFromOneLookup() throws Exception {
+        Component first = ComponentTypes.newComponent("TEXT_INPUT", "First", "{}");
+        first.setId(100L);
+        Component second = ComponentTypes.newComponent("TEXT_INPUT", "Second", "{}");
+        second.setId(101L);
+
+        given(pageRepository.existsById(1L)).willReturn(true);
+        given(componentRepository.findAllById(List.of(101L, 100L))).willReturn(Arrays.asList(first, second));
+
+        mockMvc.perform(put("/api/pages/1/components/reorder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentIds\": [101, 100]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].label", is("Second")))
+                .andExpect(jsonPath("$[0].orderIndex", is(0)))
+                .andExpect(jsonPath("$[1].label", is("First")))
+                .andExpect(jsonPath("$[1].orderIndex", is(SiblingOrderService.GAP)));
+
+        verify(componentRepository, never()).findById(anyLong());
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    @Test
+    public void whenReorderNestedComponents_givenUnknownComponentId_thenReturnNotFound() throws Exception {
+        Component child = ComponentTypes.newComponent("TEXT_INPUT", "Child", "{}");
+        child.setId(101L);
+
+        given(componentRepository.existsById(100L)).willReturn(true);
+        given(componentRepository.findAllById(List.of(101L, 999L))).willReturn(List.of(child));
+
+        mockMvc.perform(put("/api/components/100/components/reorder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"componentIds\": [101, 999]}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is("Component not found with id: 999")));
+    }
+
+    @Test
+    public void whenPositionComponent_givenAfterId_thenPublishMoveWithNewOrderIndex() throws Exception {
+        Component component = componentOfForm(5L, 1L, 100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+        given(siblingOrderService.placeComponent(component, 101L, null)).willAnswer(invocation -> {
+            component.setOrderIndex(1536);
+            return List.of();
+        });
+
+        mockMvc.perform(put("/api/components/100/position")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\": 101}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderIndex", is(1536)));
+
+        assertThat(applicationEvents.stream(FormDeltaEvent.class)).singleElement().satisfies(delta -> {
+            assertThat(delta.type()).isEqualTo(FormChange.Type.COMPONENT_MOVED);
+            assertThat(delta.data()).containsEntry("orderIndex", 1536);
+        });
+    }
+
+    @Test
+    public void whenPositionComponent_givenSiblingsRenumbered_thenPublishReorder() throws Exception {
+        Component component = componentOfForm(5L, 1L, 100L);
+        given(componentRepository.findById(100L)).willReturn(Optional.of(component));
+        given(siblingOrderService.placeComponent(component, null, 101L)).willReturn(List.of(102L, 100L, 101L));
+
+        mockMvc.perform(put("/api/components/100/position")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeId\": 101}"))
+                .andExpect(status().isOk());
+
+        assertThat(applicationEvents.stream(FormDeltaEvent.class)).singleElement().satisfies(delta -> {
+            assertThat(delta.type()).isEqualTo(FormChange.Type.COMPONENTS_REORDERED);
+            assertThat(delta.data()).containsEntry("pageId", 1L).containsEntry("componentIds", List.of(102L, 100L, 101L));
+        });
+    }
+
+    @Test
+    public void whenCreateComponentsInPage_givenSubtrees_thenReturnCreatedComponents() throws Exception {
+        Component panel = ComponentTypes.newComponent("PANEL", "Address", "{}");
+        panel.addChildComponent(ComponentTypes.newComponent("TEXT_INPUT", "Street", "{}"));
+        Component savedPanel = ComponentTypes.newComponent("PANEL", "Address", "{}");
+        savedPanel.setId(200L);
+        Component savedStreet = ComponentTypes.newComponent("TEXT_INPUT", "Street", "{}");
+        savedStreet.setId(201L);
+        savedPanel.addChildComponent(savedStreet);
+
+        given(componentBulkService.createInPage(eq(1L), anyList())).willReturn(List.of(savedPanel));
+
+        mockMvc.perform(post("/api/pages/1/components/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(panel))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(200)))
+                .andExpect(jsonPath("$[0].childComponents[0].id", is(201)));
+
+        verify(componentRepository, never()).save(any(Component.class));
+    }
+
+    private Component componentOfForm(Long formId, Long pageId, Long componentId) {
+        Form form = new Form("Form", null);
+        form.setId(formId);
+        Page page = new Page("Page");
+        page.setId(pageId);
+        form.addPage(page);
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+        component.setId(componentId);
+        page.addComponent(component);
+        return component;
     }
 }
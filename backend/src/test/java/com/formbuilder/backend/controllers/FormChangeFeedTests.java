@@ -0,0 +1,122 @@
+package com.formbuilder.backend.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormChangeFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private FormChangeRepository formChangeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Form form;
+    private Page page;
+    private Component first;
+    private Component second;
+
+    @BeforeEach
+    void setUp() {
+        form = new Form("Feed Form", null);
+        page = new Page("Page");
+        form.addPage(page);
+        first = ComponentTypes.newComponent("TEXT_INPUT", "First", "{}");
+        page.addComponent(first);
+        second = ComponentTypes.newComponent("TEXT_INPUT", "Second", "{}");
+        second.setOrderIndex(1);
+        page.addComponent(second);
+        formRepository.save(form);
+    }
+
+    @Test
+    void getFormChanges_thenReturnEveryEditSinceVersionInCommitOrder() throws Exception {
+        long since = readJson(get("/api/forms/" + form.getId())).get("version").asLong();
+
+        mockMvc.perform(put("/api/components/" + first.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\":\"TEXT_INPUT\",\"label\":\"Renamed\",\"attributes\":\"{}\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/pages/" + page.getId() + "/components/reorder")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentIds\":[" + second.getId() + "," + first.getId() + "]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/pages/" + page.getId() + "/components")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\":\"CHECKBOX\",\"label\":\"Third\",\"attributes\":\"{}\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/api/components/" + second.getId()))
+                .andExpect(status().isNoContent());
+
+        JsonNode feed = readJson(get("/api/forms/" + form.getId() + "/changes").param("since", String.valueOf(since)));
+
+        List<String> types = new ArrayList<>();
+        long previousSeq = since;
+        for (JsonNode change : feed.get("changes")) {
+            types.add(change.get("type").asText());
+            assertThat(change.get("seq").asLong()).isGreaterThan(previousSeq);
+            previousSeq = change.get("seq").asLong();
+        }
+        assertThat(types).containsExactly("COMPONENT_UPDATED", "COMPONENTS_REORDERED", "COMPONENTS_CREATED", "COMPONENT_DELETED");
+        assertThat(feed.get("reset").asBoolean()).isFalse();
+        assertThat(feed.get("version").asLong()).isEqualTo(previousSeq);
+        assertThat(feed.get("changes").get(0).get("data").get("label").asText()).isEqualTo("Renamed");
+        assertThat(feed.get("changes").get(2).get("data").get("components").get(0).get("label").asText()).isEqualTo("Third");
+
+        // The version handed back matches the form's and nothing is returned twice
+        assertThat(readJson(get("/api/forms/" + form.getId())).get("version").asLong()).isEqualTo(previousSeq);
+        JsonNode next = readJson(get("/api/forms/" + form.getId() + "/changes").param("since", String.valueOf(previousSeq)));
+        assertThat(next.get("changes")).isEmpty();
+    }
+
+    @Test
+    void deleteForm_thenDropItsChangeLog() throws Exception {
+        mockMvc.perform(put("/api/pages/" + page.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/forms/" + form.getId())).andExpect(status().isNoContent());
+
+        assertThat(formChangeRepository.findAll()).noneMatch(change -> change.getFormId().equals(form.getId()));
+    }
+
+    private JsonNode readJson(RequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
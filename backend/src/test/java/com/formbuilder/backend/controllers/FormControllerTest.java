@@ -1,8 +1,15 @@
 package com.formbuilder.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.cache.FormSnapshotCache;
 import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
 import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.FormCopyService;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import com.formbuilder.backend.services.FormExportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +36,27 @@ class FormControllerTest {
     @MockBean
     private FormRepository formRepository;
 
+    @MockBean
+    private FormChangeRepository formChangeRepository;
+
+    @MockBean
+    private FormSnapshotCache formSnapshotCache;
+
+    @MockBean
+    private FormDocumentRepository formDocumentRepository;
+
+    @MockBean
+    private FormDocumentProjector formDocumentProjector;
+
+    @MockBean
+    private FormCopyService formCopyService;
+
+    @MockBean
+    private BulkDeleteService bulkDeleteService;
+
+    @MockBean
+    private FormExportService formExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -54,7 +82,7 @@ class FormControllerTest {
 
     @Test
     void getFormById_ShouldReturnForm_WhenFormExists() throws Exception {
-        when(formRepository.findById(1L)).thenReturn(Optional.of(testForm));
+        when(formRepository.findTreeById(1L)).thenReturn(Optional.of(testForm));
 
         mockMvc.perform(get("/api/forms/1"))
                 .andExpect(status().isOk())
@@ -1,23 +1,46 @@
 package com.formbuilder.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.cache.FormSnapshotCache;
+import com.formbuilder.backend.events.FormChangedEvent;
 import com.formbuilder.backend.exceptions.FormNotFoundException;
 import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormChange;
+import com.formbuilder.backend.models.FormSummary;
+import com.formbuilder.backend.repositories.FormChangeRepository;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
 import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.CopyProgressListener;
+import com.formbuilder.backend.services.FormCopyService;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import com.formbuilder.backend.services.FormExportService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -25,6 +48,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 @WebMvcTest(FormController.class)
+@RecordApplicationEvents
 public class FormControllerTests {
 
     @Autowired
@@ -33,6 +57,30 @@ public class FormControllerTests {
     @MockBean
     private FormRepository formRepository;
 
+    @MockBean
+    private FormChangeRepository formChangeRepository;
+
+    @MockBean
+    private FormSnapshotCache formSnapshotCache;
+
+    @MockBean
+    private FormDocumentRepository formDocumentRepository;
+
+    @MockBean
+    private FormDocumentProjector formDocumentProjector;
+
+    @MockBean
+    private FormCopyService formCopyService;
+
+    @MockBean
+    private BulkDeleteService bulkDeleteService;
+
+    @MockBean
+    private FormExportService formExportService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -70,12 +118,43 @@ public class FormControllerTests {
                 .andExpect(jsonPath("$[1].name", is("Form 2")));
     }
 
+    @Test
+    public void whenGetFormSummaries_givenFullPage_thenReturnNextCursor() throws Exception {
+        List<FormSummary> summaries = List.of(
+                new FormSummary(3L, "Form 3", null, 2L, 10L, null),
+                new FormSummary(4L, "Form 4", null, 0L, 0L, null));
+        given(formRepository.findSummaries(2L, null, PageRequest.ofSize(2))).willReturn(summaries);
+
+        mockMvc.perform(get("/api/forms/summaries")
+                .param("after", "2")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is("Form 3")))
+                .andExpect(jsonPath("$.items[0].pageCount", is(2)))
+                .andExpect(jsonPath("$.items[0].componentCount", is(10)))
+                .andExpect(jsonPath("$.items[0].pages").doesNotExist())
+                .andExpect(jsonPath("$.nextAfter", is(4)));
+    }
+
+    @Test
+    public void whenGetFormSummaries_givenLastPageAndPrefix_thenEscapeWildcardsAndReturnNoCursor() throws Exception {
+        given(formRepository.findSummaries(0L, "100!%", PageRequest.ofSize(50)))
+                .willReturn(List.of(new FormSummary(1L, "100% done", null, 1L, 1L, null)));
+
+        mockMvc.perform(get("/api/forms/summaries")
+                .param("namePrefix", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.nextAfter").value((Object) null));
+    }
+
     @Test
     public void whenGetFormById_givenExistingId_thenReturnForm() throws Exception {
         Form form = new Form("Test Form", "Description");
         form.setId(1L);
 
-        given(formRepository.findById(1L)).willReturn(Optional.of(form));
+        given(formRepository.findTreeById(1L)).willReturn(Optional.of(form));
 
         mockMvc.perform(get("/api/forms/1")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -84,9 +163,154 @@ public class FormControllerTests {
                 .andExpect(jsonPath("$.name", is("Test Form")));
     }
 
+    @Test
+    public void whenGetFormById_givenCachedSnapshot_thenSkipRepository() throws Exception {
+        byte[] snapshot = "{\"id\":1,\"name\":\"Cached Form\",\"pages\":[]}".getBytes(StandardCharsets.UTF_8);
+        given(formSnapshotCache.getIfPresent(1L)).willReturn(new FormSnapshot(3L, snapshot));
+
+        mockMvc.perform(get("/api/forms/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"1.3\""))
+                .andExpect(jsonPath("$.name", is("Cached Form")));
+
+        verify(formRepository, never()).findTreeById(anyLong());
+    }
+
+    @Test
+    public void whenGetFormById_givenMatchingIfNoneMatchAndCachedSnapshot_thenReturnNotModified() throws Exception {
+        byte[] snapshot = "{\"id\":1,\"name\":\"Cached Form\",\"pages\":[]}".getBytes(StandardCharsets.UTF_8);
+        given(formSnapshotCache.getIfPresent(1L)).willReturn(new FormSnapshot(3L, snapshot));
+
+        mockMvc.perform(get("/api/forms/1").header("If-None-Match", "\"1.3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1.3\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(formRepository, never()).findVersionById(anyLong());
+    }
+
+    @Test
+    public void whenGetFormById_givenMatchingIfNoneMatchAndCacheMiss_thenCheckVersionOnly() throws Exception {
+        given(formRepository.findVersionById(1L)).willReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/forms/1").header("If-None-Match", "\"1.3\""))
+                .andExpect(status().isNotModified());
+
+        verify(formRepository, never()).findTreeById(anyLong());
+    }
+
+    @Test
+    public void whenGetFormById_givenStaleIfNoneMatch_thenReturnFormWithNewETag() throws Exception {
+        Form form = new Form("Test Form", "Description");
+        form.setId(1L);
+        form.setVersion(4L);
+        given(formRepository.findVersionById(1L)).willReturn(Optional.of(4L));
+        given(formRepository.findTreeById(1L)).willReturn(Optional.of(form));
+
+        mockMvc.perform(get("/api/forms/1").header("If-None-Match", "\"1.3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.4\""))
+                .andExpect(jsonPath("$.name", is("Test Form")));
+    }
+
+    @Test
+    public void whenGetFormById_givenCacheMiss_thenStoreSnapshot() throws Exception {
+        Form form = new Form("Test Form", "Description");
+        form.setId(1L);
+        given(formSnapshotCache.readStamp()).willReturn(7L);
+        given(formRepository.findTreeById(1L)).willReturn(Optional.of(form));
+
+        mockMvc.perform(get("/api/forms/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Test Form")));
+
+        verify(formSnapshotCache).put(eq(1L), any(FormSnapshot.class), eq(7L));
+    }
+
+    @Test
+    public void whenRenderForm_givenStoredDocument_thenServeItWithoutLoadingTheForm() throws Exception {
+        byte[] document = "{\"id\":1,\"name\":\"Stored Form\",\"pages\":[]}".getBytes(StandardCharsets.UTF_8);
+        given(formDocumentRepository.findSnapshotByFormId(1L)).willReturn(Optional.of(new FormSnapshot(5L, document)));
+
+        mockMvc.perform(get("/api/forms/1/render"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", "\"1.5\""))
+                .andExpect(content().bytes(document));
+
+        verify(formRepository, never()).findTreeById(anyLong());
+        verify(formDocumentProjector, never()).project(anyLong());
+    }
+
+    @Test
+    public void whenRenderForm_givenMatchingIfNoneMatch_thenReturnNotModified() throws Exception {
+        byte[] document = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        given(formDocumentRepository.findSnapshotByFormId(1L)).willReturn(Optional.of(new FormSnapshot(5L, document)));
+
+        mockMvc.perform(get("/api/forms/1/render").header("If-None-Match", "\"1.5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void whenRenderForm_givenNoDocumentYet_thenServeTheTreeAndScheduleProjection() throws Exception {
+        Form form = new Form("Old Form", "Description");
+        form.setId(1L);
+        form.setVersion(2L);
+        given(formRepository.findTreeById(1L)).willReturn(Optional.of(form));
+
+        mockMvc.perform(get("/api/forms/1/render"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.2\""))
+                .andExpect(jsonPath("$.name", is("Old Form")));
+
+        verify(formDocumentProjector).schedule(1L);
+        verify(formDocumentProjector, never()).project(anyLong());
+    }
+
+    @Test
+    public void whenRenderForm_givenNonExistentId_thenReturnNotFound() throws Exception {
+        given(formRepository.findTreeById(99L)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/forms/99/render"))
+                .andExpect(status().isNotFound());
+
+        verify(formDocumentProjector, never()).schedule(anyLong());
+    }
+
+    @Test
+    public void whenGetFormChanges_thenReturnChangesAndLatestVersion() throws Exception {
+        FormChange change = new FormChange(1L, FormChange.Type.COMPONENT_UPDATED, 100L, "{\"id\":100,\"label\":\"Email\"}");
+        change.setSeq(6L);
+        given(formRepository.findVersionById(1L)).willReturn(Optional.of(5L));
+        given(formChangeRepository.findSince(eq(1L), eq(4L), any())).willReturn(List.of(change));
+
+        mockMvc.perform(get("/api/forms/1/changes").param("since", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(6)))
+                .andExpect(jsonPath("$.reset", is(false)))
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].type", is("COMPONENT_UPDATED")))
+                .andExpect(jsonPath("$.changes[0].data.label", is("Email")));
+    }
+
+    @Test
+    public void whenGetFormChanges_givenVersionFromTheFuture_thenAskForReset() throws Exception {
+        given(formRepository.findVersionById(1L)).willReturn(Optional.of(5L));
+
+        mockMvc.perform(get("/api/forms/1/changes").param("since", "9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(5)))
+                .andExpect(jsonPath("$.reset", is(true)))
+                .andExpect(jsonPath("$.changes", hasSize(0)));
+
+        verify(formChangeRepository, never()).findSince(anyLong(), anyLong(), any());
+    }
+
     @Test
     public void whenGetFormById_givenNonExistentId_thenReturnNotFound() throws Exception {
-        given(formRepository.findById(99L)).willReturn(Optional.empty());
+        given(formRepository.findTreeById(99L)).willReturn(Optional.empty());
 
         mockMvc.perform(get("/api/forms/99")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -112,6 +336,9 @@ public class FormControllerTests {
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("New Name")))
                 .andExpect(jsonPath("$.description", is("New Desc")));
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(1L));
     }
 
     @Test
@@ -129,10 +356,15 @@ public class FormControllerTests {
     @Test
     public void whenDeleteForm_givenExistingId_thenReturnNoContent() throws Exception {
         when(formRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(formRepository).deleteById(1L);
 
         mockMvc.perform(delete("/api/forms/1"))
                 .andExpect(status().isNoContent());
+
+        verify(bulkDeleteService).deleteForm(1L);
+        verify(formRepository, never()).deleteById(anyLong());
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(1L));
     }
 
     @Test
@@ -144,4 +376,88 @@ public class FormControllerTests {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Form not found with id: 99")));
     }
+
+    @Test
+    public void whenCopyForm_givenExistingId_thenReturnCopiedTree() throws Exception {
+        Form copy = new Form("Copy of Test Form", "Description");
+        copy.setId(2L);
+
+        given(formCopyService.copyForm(eq(1L), eq("Copy of Test Form"), any(CopyProgressListener.class))).willReturn(2L);
+        given(formRepository.findTreeById(2L)).willReturn(Optional.of(copy));
+
+        mockMvc.perform(post("/api/forms/1/copy")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Copy of Test Form\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(2)))
+                .andExpect(jsonPath("$.name", is("Copy of Test Form")));
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(2L));
+    }
+
+    @Test
+    public void whenCopyForm_givenNdjsonAccept_thenStreamProgress() throws Exception {
+        given(formRepository.existsById(1L)).willReturn(true);
+        given(formCopyService.copyForm(eq(1L), isNull(), any(CopyProgressListener.class))).willAnswer(invocation -> {
+            CopyProgressListener listener = invocation.getArgument(2);
+            listener.onProgress(500, 800);
+            listener.onProgress(800, 800);
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(post("/api/forms/1/copy")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).containsExactly(
+                "{\"type\":\"progress\",\"copiedComponents\":500,\"totalComponents\":800}",
+                "{\"type\":\"progress\",\"copiedComponents\":800,\"totalComponents\":800}",
+                "{\"type\":\"complete\",\"formId\":2}");
+    }
+
+    @Test
+    public void whenCopyForm_givenNdjsonAcceptAndCopyFails_thenEndStreamWithErrorLine() throws Exception {
+        given(formRepository.existsById(1L)).willReturn(true);
+        given(formCopyService.copyForm(eq(1L), isNull(), any(CopyProgressListener.class))).willAnswer(invocation -> {
+            CopyProgressListener listener = invocation.getArgument(2);
+            listener.onProgress(500, 800);
+            throw new FormNotFoundException("Form not found with id: 1");
+        });
+
+        MvcResult result = mockMvc.perform(post("/api/forms/1/copy")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).containsExactly(
+                "{\"type\":\"progress\",\"copiedComponents\":500,\"totalComponents\":800}",
+                "{\"type\":\"error\",\"message\":\"An unexpected error occurred: Form not found with id: 1\"}");
+        assertThat(applicationEvents.stream(FormChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    public void whenExportForms_thenStreamNdjson() throws Exception {
+        given(formExportService.exportAll(any())).willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/forms/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
 }
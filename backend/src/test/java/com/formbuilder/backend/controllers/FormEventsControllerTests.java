@@ -0,0 +1,120 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.events.FormEventBroadcaster;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormEventsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private FormEventBroadcaster formEventBroadcaster;
+
+    private Form form;
+    private Component component;
+
+    @BeforeEach
+    void setUp() {
+        form = new Form("Shared Form", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}");
+        page.addComponent(component);
+        formRepository.save(form);
+    }
+
+    @Test
+    void streamFormEvents_givenChangeByAnotherEditor_thenPushChangeEvent() throws Exception {
+        int subscribersBefore = formEventBroadcaster.getSubscriberCount();
+        MvcResult stream = mockMvc.perform(get("/api/forms/" + form.getId() + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(formEventBroadcaster.getSubscriberCount()).isEqualTo(subscribersBefore + 1);
+
+        mockMvc.perform(put("/api/components/" + component.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\":\"TEXT_INPUT\",\"label\":\"Full name\",\"attributes\":\"{}\"}"))
+                .andExpect(status().isOk());
+
+        String events = awaitContent(stream, "event:change");
+        assertThat(events).contains("\"type\":\"COMPONENT_UPDATED\"", "\"label\":\"Full name\"");
+    }
+
+    @Test
+    void streamFormEvents_givenLastEventId_thenReplayMissedChanges() throws Exception {
+        long version = formRepository.findVersionById(form.getId()).orElseThrow();
+        mockMvc.perform(put("/api/components/" + component.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"componentType\":\"TEXT_INPUT\",\"label\":\"Missed\",\"attributes\":\"{}\"}"))
+                .andExpect(status().isOk());
+
+        MvcResult stream = mockMvc.perform(get("/api/forms/" + form.getId() + "/events")
+                        .header("Last-Event-ID", String.valueOf(version)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(awaitContent(stream, "event:change")).contains("\"label\":\"Missed\"");
+    }
+
+    @Test
+    void streamFormEvents_givenTimeout_thenEndStreamNormallyAndUnsubscribe() throws Exception {
+        int subscribersBefore = formEventBroadcaster.getSubscriberCount();
+        MvcResult stream = mockMvc.perform(get("/api/forms/" + form.getId() + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) stream.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk());
+        assertThat(formEventBroadcaster.getSubscriberCount()).isEqualTo(subscribersBefore);
+    }
+
+    @Test
+    void streamFormEvents_givenUnknownForm_thenReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/forms/999999/events"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = stream.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
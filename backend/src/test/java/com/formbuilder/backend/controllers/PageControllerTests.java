@@ -1,24 +1,39 @@
 package com.formbuilder.backend.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.events.FormDeltaEvent;
+import com.formbuilder.backend.exceptions.InvalidPageMoveException;
 import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormChange;
 import com.formbuilder.backend.models.Page;
 import com.formbuilder.backend.repositories.FormRepository;
 import com.formbuilder.backend.repositories.PageRepository;
+import com.formbuilder.backend.services.BulkDeleteService;
+import com.formbuilder.backend.services.CopyProgressListener;
+import com.formbuilder.backend.services.FormCopyService;
+import com.formbuilder.backend.services.SiblingOrderService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,6 +41,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 @WebMvcTest(PageController.class)
+@RecordApplicationEvents
 public class PageControllerTests {
 
     @Autowired
@@ -37,9 +53,21 @@ public class PageControllerTests {
     @MockBean
     private FormRepository formRepository; // Also mock FormRepository due to its use in PageController
 
+    @MockBean
+    private FormCopyService formCopyService;
+
+    @MockBean
+    private BulkDeleteService bulkDeleteService;
+
+    @MockBean
+    private SiblingOrderService siblingOrderService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Test
     public void whenCreatePage_givenValidFormId_thenReturnCreatedPage() throws Exception {
         Form form = new Form("Test Form", "Form Description");
@@ -58,6 +86,40 @@ public class PageControllerTests {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id", is(10)))
                 .andExpect(jsonPath("$.name", is("Home Page")));
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(1L));
+    }
+
+    @Test
+    public void whenCreatePage_givenNoOrderIndex_thenAppendAfterExistingPages() throws Exception {
+        Form form = new Form("Test Form", "Form Description");
+        form.setId(1L);
+        given(formRepository.findById(1L)).willReturn(Optional.of(form));
+        given(siblingOrderService.nextPageOrderIndex(1L)).willReturn(3 * SiblingOrderService.GAP);
+        given(pageRepository.save(any(Page.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/forms/1/pages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Last Page\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderIndex", is(3 * SiblingOrderService.GAP)));
+    }
+
+    @Test
+    public void whenCreatePage_givenOrderIndex_thenKeepIt() throws Exception {
+        Form form = new Form("Test Form", "Form Description");
+        form.setId(1L);
+        given(formRepository.findById(1L)).willReturn(Optional.of(form));
+        given(pageRepository.save(any(Page.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/api/forms/1/pages")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"First Page\", \"orderIndex\": 0}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderIndex", is(0)));
+
+        verify(siblingOrderService, never()).nextPageOrderIndex(anyLong());
     }
 
     @Test
@@ -117,6 +179,23 @@ public class PageControllerTests {
                 .andExpect(jsonPath("$.id", is(10)));
     }
 
+    @Test
+    public void whenGetPageById_givenMatchingIfNoneMatch_thenReturnNotModified() throws Exception {
+        Form form = new Form();
+        form.setId(1L);
+        form.setVersion(5L);
+        Page page = new Page("Home Page");
+        page.setId(10L);
+        page.setForm(form);
+        given(pageRepository.findById(10L)).willReturn(Optional.of(page));
+
+        mockMvc.perform(get("/api/pages/10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1.5\""));
+        mockMvc.perform(get("/api/pages/10").header("If-None-Match", "\"1.5\""))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     public void whenGetPageById_givenNonExistentId_thenReturnNotFound() throws Exception {
         given(pageRepository.findById(99L)).willReturn(Optional.empty());
@@ -147,9 +226,109 @@ public class PageControllerTests {
     @Test
     public void whenDeletePage_givenExistingId_thenReturnNoContent() throws Exception {
         when(pageRepository.existsById(10L)).thenReturn(true);
-        doNothing().when(pageRepository).deleteById(10L);
 
         mockMvc.perform(delete("/api/pages/10"))
                 .andExpect(status().isNoContent());
+
+        verify(bulkDeleteService).deletePage(10L);
+        verify(pageRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    public void whenDeletePage_givenPageOfForm_thenPublishFormChange() throws Exception {
+        when(pageRepository.existsById(10L)).thenReturn(true);
+        when(pageRepository.findFormIdById(10L)).thenReturn(Optional.of(1L));
+
+        mockMvc.perform(delete("/api/pages/10"))
+                .andExpect(status().isNoContent());
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(1L));
+    }
+
+    @Test
+    public void whenReorderPages_givenPageIds_thenApplyOrderFromOneLookup() throws Exception {
+        Page first = new Page("First");
+        first.setId(10L);
+        Page second = new Page("Second");
+        second.setId(11L);
+
+        given(formRepository.existsById(1L)).willReturn(true);
+        given(pageRepository.findAllById(List.of(11L, 10L))).willReturn(Arrays.asList(first, second));
+
+        mockMvc.perform(put("/api/forms/1/pages/reorder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pageIds\": [11, 10]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Second")))
+                .andExpect(jsonPath("$[0].orderIndex", is(0)))
+                .andExpect(jsonPath("$[1].name", is("First")))
+                .andExpect(jsonPath("$[1].orderIndex", is(SiblingOrderService.GAP)));
+
+        verify(pageRepository, never()).findById(anyLong());
+        verify(pageRepository, never()).save(any(Page.class));
+    }
+
+    @Test
+    public void whenPositionPage_givenBeforeId_thenPublishPageUpdate() throws Exception {
+        Form form = new Form("Test Form", null);
+        form.setId(1L);
+        Page page = new Page("Moved");
+        page.setId(10L);
+        form.addPage(page);
+
+        given(pageRepository.findById(10L)).willReturn(Optional.of(page));
+        given(siblingOrderService.placePage(page, null, 11L)).willAnswer(invocation -> {
+            page.setOrderIndex(-1024);
+            return List.of();
+        });
+
+        mockMvc.perform(put("/api/pages/10/position")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"beforeId\": 11}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderIndex", is(-1024)));
+
+        assertThat(applicationEvents.stream(FormDeltaEvent.class)).singleElement().satisfies(delta -> {
+            assertThat(delta.type()).isEqualTo(FormChange.Type.PAGE_UPDATED);
+            assertThat(delta.data()).containsEntry("orderIndex", -1024);
+        });
+    }
+
+    @Test
+    public void whenPositionPage_givenPageOfOtherForm_thenReturnBadRequest() throws Exception {
+        Page page = new Page("Moved");
+        page.setId(10L);
+
+        given(pageRepository.findById(10L)).willReturn(Optional.of(page));
+        given(siblingOrderService.placePage(page, 30L, null))
+                .willThrow(new InvalidPageMoveException("Page 30 is not another page of the form of page 10"));
+
+        mockMvc.perform(put("/api/pages/10/position")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\": 30}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    public void whenCopyPage_givenTargetForm_thenReturnCopiedTree() throws Exception {
+        Page copy = new Page("Home Page (Copy)");
+        copy.setId(20L);
+
+        given(formCopyService.copyPage(eq(10L), eq(2L), isNull(), any(CopyProgressListener.class))).willReturn(20L);
+        given(pageRepository.findFormIdById(20L)).willReturn(Optional.of(2L));
+        given(pageRepository.findTreeById(20L)).willReturn(Optional.of(copy));
+
+        mockMvc.perform(post("/api/pages/10/copy")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"targetFormId\": 2}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(20)))
+                .andExpect(jsonPath("$.name", is("Home Page (Copy)")));
+
+        assertThat(applicationEvents.stream(FormChangedEvent.class))
+                .containsExactly(new FormChangedEvent(2L));
     }
 }
@@ -0,0 +1,253 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.cache.FormSnapshotCache;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.formbuilder.backend.metrics.QueryBudgetMatchers.statementCount;
+import static com.formbuilder.backend.metrics.QueryBudgetMatchers.withinQueryBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the endpoints that declare a {@code @QueryBudget} against a real database and checks that
+ * they stay within it, whatever the size of the form.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private FormSnapshotCache formSnapshotCache;
+
+    @Autowired
+    private FormDocumentProjector formDocumentProjector;
+
+    @Autowired
+    private FormDocumentRepository formDocumentRepository;
+
+    @Test
+    void getFormById_thenThreeStatementsOnMissAndNoneOnHit() throws Exception {
+        Form form = saveForm(4, 10);
+
+        mockMvc.perform(get("/api/forms/" + form.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(3));
+        mockMvc.perform(get("/api/forms/" + form.getId()))
+                .andExpect(status().isOk())
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void getFormById_givenCurrentETag_thenNotModifiedWithAtMostOneStatement() throws Exception {
+        Form form = saveForm(4, 10);
+        String etag = mockMvc.perform(get("/api/forms/" + form.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/forms/" + form.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(statementCount(0));
+
+        formSnapshotCache.onFormChanged(new FormChangedEvent(form.getId()));
+        mockMvc.perform(get("/api/forms/" + form.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void renderForm_thenSingleStatementAndDocumentFollowsCommittedChanges() throws Exception {
+        Form form = saveForm(4, 10);
+        long version = formDocumentProjector.project(form.getId()).orElseThrow().version();
+
+        mockMvc.perform(get("/api/forms/" + form.getId() + "/render"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pages[3].components[9].label").value("Field 9"))
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(1));
+
+        mockMvc.perform(put("/api/forms/" + form.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+        awaitDocumentNewerThan(form.getId(), version);
+
+        mockMvc.perform(get("/api/forms/" + form.getId() + "/render"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed"))
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void renderForm_givenNoDocumentYet_thenColdPathServesTheTreeAndSchedulesTheDocument() throws Exception {
+        Form form = saveForm(4, 10);
+
+        mockMvc.perform(get("/api/forms/" + form.getId() + "/render"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pages[3].components[9].label").value("Field 9"))
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(4));
+        awaitDocument(form.getId());
+
+        mockMvc.perform(get("/api/forms/" + form.getId() + "/render"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pages[3].components[9].label").value("Field 9"))
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void getFormSummaries_thenSingleStatement() throws Exception {
+        saveForm(2, 5);
+        saveForm(3, 5);
+
+        mockMvc.perform(get("/api/forms/summaries").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void reorderPages_thenWithinBudget() throws Exception {
+        Form form = saveForm(20, 0);
+
+        mockMvc.perform(reorder("/api/forms/" + form.getId() + "/pages/reorder", "pageIds",
+                        reversed(form.getPages().stream().map(Page::getId).toList())))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @Test
+    void reorderComponentsInPage_thenWithinBudget() throws Exception {
+        Page page = saveForm(1, 30).getPages().get(0);
+
+        mockMvc.perform(reorder("/api/pages/" + page.getId() + "/components/reorder", "componentIds",
+                        reversed(page.getComponents().stream().map(Component::getId).toList())))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @Test
+    void reorderNestedComponents_thenWithinBudget() throws Exception {
+        Form form = new Form("Budget Form", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        for (int i = 0; i < 30; i++) {
+            Component child = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            child.setOrderIndex(i);
+            child.setPage(page);
+            panel.addChildComponent(child);
+        }
+        formRepository.save(form);
+
+        mockMvc.perform(reorder("/api/components/" + panel.getId() + "/components/reorder", "componentIds",
+                        reversed(panel.getChildComponents().stream().map(Component::getId).toList())))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget());
+    }
+
+    @Test
+    void getComponentSubtree_givenDeepNesting_thenSingleStatement() throws Exception {
+        Form form = new Form("Budget Form", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        Component root = ComponentTypes.newComponent("PANEL", "Level 0", "{}");
+        page.addComponent(root);
+        Component parent = root;
+        for (int level = 1; level < 8; level++) {
+            Component child = ComponentTypes.newComponent("PANEL", "Level " + level, "{}");
+            child.setPage(page);
+            parent.addChildComponent(child);
+            parent = child;
+        }
+        formRepository.save(form);
+
+        mockMvc.perform(get("/api/components/" + root.getId() + "/subtree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childComponents[0].childComponents[0].childComponents[0].childComponents[0]"
+                        + ".childComponents[0].childComponents[0].childComponents[0].label").value("Level 7"))
+                .andExpect(withinQueryBudget())
+                .andExpect(statementCount(1));
+
+        mockMvc.perform(get("/api/components/" + root.getId() + "/subtree").param("maxDepth", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.childComponents[0].label").value("Level 1"))
+                .andExpect(jsonPath("$.childComponents[0].childComponents").isEmpty())
+                .andExpect(statementCount(1));
+    }
+
+    private Form saveForm(int pageCount, int componentsPerPage) {
+        Form form = new Form("Budget Form", null);
+        for (int p = 0; p < pageCount; p++) {
+            Page page = new Page("Page " + p);
+            page.setOrderIndex(p);
+            form.addPage(page);
+            for (int c = 0; c < componentsPerPage; c++) {
+                Component component = ComponentTypes.newComponent("TEXT_INPUT", "Field " + c, "{}");
+                component.setOrderIndex(c);
+                page.addComponent(component);
+            }
+        }
+        return formRepository.save(form);
+    }
+
+    private void awaitDocument(Long formId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (formDocumentRepository.findSnapshotByFormId(formId).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(formDocumentRepository.findSnapshotByFormId(formId)).isPresent();
+    }
+
+    private void awaitDocumentNewerThan(Long formId, long version) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        long documentVersion = formDocumentRepository.findSnapshotByFormId(formId).orElseThrow().version();
+        while (documentVersion <= version && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            documentVersion = formDocumentRepository.findSnapshotByFormId(formId).orElseThrow().version();
+        }
+        assertThat(documentVersion).isGreaterThan(version);
+    }
+
+    private static List<Long> reversed(List<Long> ids) {
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static RequestBuilder reorder(String url, String idsField, List<Long> ids) {
+        String body = ids.stream().map(String::valueOf)
+                .collect(Collectors.joining(",", "{\"" + idsField + "\": [", "]}"));
+        return put(url).contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+}
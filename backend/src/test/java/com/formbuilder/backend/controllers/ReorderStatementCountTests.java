@@ -0,0 +1,187 @@
+package com.formbuilder.backend.controllers;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.services.FormDocumentProjector;
+import com.formbuilder.backend.services.SiblingOrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ReorderStatementCountTests {
+
+    // Includes the UPDATE that bumps forms.last_modified, and the change log INSERT and its UPDATE
+    private static final long MAX_STATEMENTS_PER_REORDER = 9;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // Statistics are global: keep the background document projection out of the counts
+    @MockBean
+    private FormDocumentProjector formDocumentProjector;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void reorderComponentsInPage_givenMoreComponents_thenStatementCountStaysFixed() throws Exception {
+        long smallPageStatements = reorderPageComponents(10);
+        long largePageStatements = reorderPageComponents(40);
+
+        assertThat(smallPageStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_REORDER);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(40);
+    }
+
+    @Test
+    void reorderNestedComponents_givenMoreComponents_thenStatementCountStaysFixed() throws Exception {
+        long smallPanelStatements = reorderNestedComponents(10);
+        long largePanelStatements = reorderNestedComponents(40);
+
+        assertThat(smallPanelStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_REORDER);
+        assertThat(largePanelStatements).isEqualTo(smallPanelStatements);
+    }
+
+    @Test
+    void reorderPages_givenMorePages_thenStatementCountStaysFixed() throws Exception {
+        long fewPagesStatements = reorderPages(5);
+        long manyPagesStatements = reorderPages(30);
+
+        assertThat(fewPagesStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_REORDER);
+        assertThat(manyPagesStatements).isEqualTo(fewPagesStatements);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(30);
+    }
+
+    @Test
+    void positionComponent_givenMoreSiblings_thenUpdatesOneRowWithFixedStatementCount() throws Exception {
+        long smallPageStatements = positionLastComponentAfterFirst(10);
+        long largePageStatements = positionLastComponentAfterFirst(500);
+
+        assertThat(smallPageStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_REORDER);
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    private long positionLastComponentAfterFirst(int componentCount) throws Exception {
+        Form form = new Form("Reorder Form", "Single moves");
+        Page page = new Page("Page");
+        form.addPage(page);
+        for (int i = 0; i < componentCount; i++) {
+            Component component = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            component.setOrderIndex(i * SiblingOrderService.GAP);
+            page.addComponent(component);
+        }
+        formRepository.save(form);
+
+        Long firstId = page.getComponents().get(0).getId();
+        Long lastId = page.getComponents().get(componentCount - 1).getId();
+        statistics.clear();
+        mockMvc.perform(put("/api/components/" + lastId + "/position")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"afterId\": " + firstId + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderIndex", is(SiblingOrderService.GAP / 2)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long reorderPageComponents(int componentCount) throws Exception {
+        Form form = new Form("Reorder Form", "Page components");
+        Page page = new Page("Page");
+        form.addPage(page);
+        for (int i = 0; i < componentCount; i++) {
+            Component component = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            component.setOrderIndex(i);
+            page.addComponent(component);
+        }
+        formRepository.save(form);
+
+        List<Long> reversedIds = reversedIds(page.getComponents());
+        return countStatements("/api/pages/" + page.getId() + "/components/reorder", "componentIds", reversedIds);
+    }
+
+    private long reorderNestedComponents(int componentCount) throws Exception {
+        Form form = new Form("Reorder Form", "Nested components");
+        Page page = new Page("Page");
+        form.addPage(page);
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        for (int i = 0; i < componentCount; i++) {
+            Component child = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            child.setOrderIndex(i);
+            child.setPage(page);
+            panel.addChildComponent(child);
+        }
+        formRepository.save(form);
+
+        List<Long> reversedIds = reversedIds(panel.getChildComponents());
+        return countStatements("/api/components/" + panel.getId() + "/components/reorder", "componentIds", reversedIds);
+    }
+
+    private long reorderPages(int pageCount) throws Exception {
+        Form form = new Form("Reorder Form", "Pages");
+        for (int i = 0; i < pageCount; i++) {
+            Page page = new Page("Page " + i);
+            page.setOrderIndex(i);
+            form.addPage(page);
+        }
+        formRepository.save(form);
+
+        List<Long> reversedIds = new ArrayList<>(form.getPages().stream().map(Page::getId).toList());
+        Collections.reverse(reversedIds);
+        return countStatements("/api/forms/" + form.getId() + "/pages/reorder", "pageIds", reversedIds);
+    }
+
+    private long countStatements(String url, String idsField, List<Long> ids) throws Exception {
+        String body = ids.stream().map(String::valueOf)
+                .collect(Collectors.joining(",", "{\"" + idsField + "\": [", "]}"));
+
+        statistics.clear();
+        mockMvc.perform(put(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(ids.get(0).intValue())))
+                .andExpect(jsonPath("$[0].orderIndex", is(0)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> reversedIds(List<Component> components) {
+        List<Long> ids = new ArrayList<>(components.stream().map(Component::getId).toList());
+        Collections.reverse(ids);
+        return ids;
+    }
+}
@@ -0,0 +1,107 @@
+package com.formbuilder.backend.events;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormEventSubscriberTests {
+
+    private static final FormEventSubscriber.Event RESET = new FormEventSubscriber.Event("reset", null, "{}", null);
+
+    private final List<Runnable> pendingSends = new ArrayList<>();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+
+    @Test
+    void offer_givenIdleSubscriber_thenScheduleSingleDrain() {
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, pendingSends::add, 10, RESET);
+
+        subscriber.offer(change("1", null));
+        subscriber.offer(change("2", null));
+        runPendingSends();
+
+        assertThat(emitter.sent).hasSize(2);
+        assertThat(subscriber.queued()).isZero();
+    }
+
+    @Test
+    void offer_givenRepeatedReorderOfSameContainer_thenKeepOnlyLatest() {
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, pendingSends::add, 10, RESET);
+
+        subscriber.offer(change("1", "page:10"));
+        subscriber.offer(change("2", null));
+        subscriber.offer(change("3", "page:10"));
+        subscriber.offer(change("4", "page:11"));
+
+        assertThat(subscriber.queued()).isEqualTo(3);
+        runPendingSends();
+        assertThat(emitter.sentText()).contains("id:2", "id:3", "id:4").doesNotContain("id:1");
+    }
+
+    @Test
+    void offer_givenFullQueue_thenReplaceBacklogWithReset() {
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, pendingSends::add, 3, RESET);
+
+        for (int i = 1; i <= 4; i++) {
+            subscriber.offer(change(String.valueOf(i), null));
+        }
+
+        assertThat(subscriber.queued()).isEqualTo(2);
+        assertThat(subscriber.dropped()).isEqualTo(3);
+        runPendingSends();
+        assertThat(emitter.sentText()).contains("event:reset", "id:4").doesNotContain("id:1");
+    }
+
+    @Test
+    void offer_givenHeartbeatWhileEventsQueued_thenSkipHeartbeat() {
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, pendingSends::add, 10, RESET);
+
+        subscriber.offer(change("1", null));
+        subscriber.offer(FormEventSubscriber.Event.HEARTBEAT);
+
+        assertThat(subscriber.queued()).isEqualTo(1);
+    }
+
+    @Test
+    void offer_givenClosedSubscriber_thenDropEvents() {
+        FormEventSubscriber subscriber = new FormEventSubscriber(emitter, pendingSends::add, 10, RESET);
+        subscriber.close();
+
+        subscriber.offer(change("1", null));
+        runPendingSends();
+
+        assertThat(emitter.sent).isEmpty();
+        assertThat(subscriber.isClosed()).isTrue();
+    }
+
+    private static FormEventSubscriber.Event change(String id, String coalesceKey) {
+        return new FormEventSubscriber.Event("change", id, "{}", coalesceKey);
+    }
+
+    private void runPendingSends() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<SseEventBuilder> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+        }
+
+        String sentText() {
+            return sent.stream()
+                    .flatMap(builder -> builder.build().stream())
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.formbuilder.backend.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers over the SQL statements a request ran, for tests booting the full application
+ * (the counts come from {@link RequestMetricsFilter}).
+ * <pre>
+ * mockMvc.perform(get("/api/forms/1"))
+ *         .andExpect(withinQueryBudget())
+ *         .andExpect(statementCount(3));
+ * </pre>
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+    }
+
+    public static ResultMatcher statementCount(int expected) {
+        return result -> assertThat(metrics(result).getStatements())
+                .as("SQL statements run by %s", result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> assertThat(metrics(result).getStatements())
+                .as("SQL statements run by %s", result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    /**
+     * Requires the handler to declare a {@link QueryBudget} and the request to stay within it (or
+     * within its cold path budget, if the request took the cold path).
+     */
+    public static ResultMatcher withinQueryBudget() {
+        return result -> {
+            assertThat(result.getHandler()).isInstanceOf(HandlerMethod.class);
+            QueryBudget budget = ((HandlerMethod) result.getHandler()).getMethodAnnotation(QueryBudget.class);
+            assertThat(budget).as("@QueryBudget on %s", result.getHandler()).isNotNull();
+            statementsAtMost(RequestMetricsFilter.budgetFor(budget, metrics(result))).match(result);
+        };
+    }
+
+    private static RequestMetrics metrics(MvcResult result) {
+        Object metrics = result.getRequest().getAttribute(RequestMetrics.REQUEST_ATTRIBUTE);
+        assertThat(metrics).as("request metrics (is RequestMetricsFilter registered?)").isInstanceOf(RequestMetrics.class);
+        return (RequestMetrics) metrics;
+    }
+}
@@ -0,0 +1,66 @@
+package com.formbuilder.backend.metrics;
+
+import com.formbuilder.backend.exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenStatementsWithinBudget_thenRecordsCountByEndpoint() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(meterRegistry, 5, true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(5));
+
+        assertThat(meterRegistry.get("formbuilder.request.statements")
+                .tags("method", "GET", "uri", "/api/forms/{formId}").summary().totalAmount()).isEqualTo(5.0);
+        assertThat(meterRegistry.find("formbuilder.request.budget.exceeded").counter()).isNull();
+    }
+
+    @Test
+    void givenStatementsOverBudgetAndFailOnExceed_thenThrowWithRepeatedStatement() {
+        RequestMetricsFilter filter = new RequestMetricsFilter(meterRegistry, 5, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(6)))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/forms/{formId} ran 6 SQL statements, over its budget of 5")
+                .hasMessageContaining("(5x): select * from components where page_id = ?");
+    }
+
+    @Test
+    void givenStatementsOverBudget_thenOnlyCountWhenNotFailing() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(meterRegistry, 5, false);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), runningStatements(6));
+
+        assertThat(meterRegistry.get("formbuilder.request.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/forms/{formId}").counter().count()).isEqualTo(1.0);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/forms/1");
+    }
+
+    /**
+     * Chain that runs one form query followed by one components query per page, like an N+1.
+     */
+    private FilterChain runningStatements(int count) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/forms/{formId}");
+            RequestMetrics.statementPrepared("select * from forms where id = ?");
+            for (int i = 1; i < count; i++) {
+                RequestMetrics.statementPrepared("select * from components where page_id = ?");
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.formbuilder.backend.metrics;
+
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class RequestMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getFormById_thenRecordsStatementsAndSerializationByUriTemplate() throws Exception {
+        Form form = new Form("Metrics Form", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        page.addComponent(ComponentTypes.newComponent("TEXT_INPUT", "Name", "{}"));
+        Long formId = formRepository.save(form).getId();
+        long requestsBefore = statementSummary().map(DistributionSummary::count).orElse(0L);
+        double statementsBefore = statementSummary().map(DistributionSummary::totalAmount).orElse(0.0);
+
+        mockMvc.perform(get("/api/forms/" + formId)).andExpect(status().isOk());
+
+        DistributionSummary statements = statementSummary().orElseThrow();
+        assertThat(statements.count()).isEqualTo(requestsBefore + 1);
+        // Form, page and component rows; a cache miss because the form was just created
+        assertThat(statements.totalAmount() - statementsBefore).isEqualTo(3.0);
+
+        Timer serialization = meterRegistry.get("formbuilder.request.serialization")
+                .tag("uri", "/api/forms/{formId}").timer();
+        assertThat(serialization.count()).isPositive();
+    }
+
+    @Test
+    void prometheusEndpoint_thenExposesRequestAndHibernateMetrics() throws Exception {
+        mockMvc.perform(get("/api/forms/summaries")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("formbuilder_request_statements_bucket")))
+                .andExpect(content().string(containsString("uri=\"/api/forms/summaries\"")))
+                .andExpect(content().string(containsString("hibernate_statements_total")));
+    }
+
+    private Optional<DistributionSummary> statementSummary() {
+        return Optional.ofNullable(meterRegistry.find("formbuilder.request.statements")
+                .tags("method", "GET", "uri", "/api/forms/{formId}").summary());
+    }
+}
@@ -0,0 +1,58 @@
+package com.formbuilder.backend.models;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentAttributesTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serializeComponent_thenWritesAttributesTextWithoutDecoding() throws Exception {
+        String json = "{\"placeholder\": \"Enter your name\", \"required\": true}";
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", json);
+        ComponentAttributes attributes = component.getTypedAttributes();
+
+        JsonNode written = objectMapper.readTree(objectMapper.writeValueAsString(component));
+
+        assertThat(written.get("attributes").asText()).isEqualTo(json);
+        assertThat(written.has("typedAttributes")).isFalse();
+        assertThat(attributes.isDecoded()).isFalse();
+    }
+
+    @Test
+    void typedGetters_thenDecodeOnceAndConvertValues() {
+        Component component = ComponentTypes.newComponent("TEXT_AREA", "Notes", "{\"required\": \"true\", \"rows\": 3, \"placeholder\": \"Notes\"}");
+        ComponentAttributes attributes = component.getTypedAttributes();
+
+        assertThat(attributes.isRequired()).isTrue();
+        assertThat(attributes.getInteger("rows")).isEqualTo(3);
+        assertThat(attributes.getPlaceholder()).isEqualTo("Notes");
+        assertThat(attributes.isDecoded()).isTrue();
+        assertThat(component.getTypedAttributes()).isSameAs(attributes);
+    }
+
+    @Test
+    void typedGetters_givenMissingOrInvalidJson_thenReadAsEmpty() {
+        assertThat(new ComponentAttributes(null).asMap()).isEmpty();
+        assertThat(new ComponentAttributes("not json").isRequired()).isFalse();
+        assertThat(new ComponentAttributes("[1, 2]").getPlaceholder()).isNull();
+    }
+
+    @Test
+    void setAttribute_thenRewritesJsonAndResetsTypedView() {
+        Component component = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{\"placeholder\": \"Name\"}");
+        ComponentAttributes before = component.getTypedAttributes();
+
+        component.setAttribute("required", true);
+        component.setAttribute("placeholder", null);
+
+        assertThat(component.getAttributes()).isEqualTo("{\"required\":true}");
+        assertThat(component.getTypedAttributes()).isNotSameAs(before);
+        assertThat(component.getTypedAttributes().isRequired()).isTrue();
+    }
+}
@@ -0,0 +1,54 @@
+package com.formbuilder.backend.models.types;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Page;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentTypesTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void newComponent_thenPicksSubclassByType() {
+        assertThat(ComponentTypes.newComponent("PANEL", "Panel", "{}")).isExactlyInstanceOf(PanelComponent.class);
+        assertThat(ComponentTypes.newComponent("EMAIL_INPUT", "Email", "{}")).isInstanceOf(FieldComponent.class);
+        assertThat(ComponentTypes.newComponent("CUSTOM", "Custom", "{}")).isExactlyInstanceOf(Component.class);
+        assertThat(ComponentTypes.newComponent(null, "Untyped", "{}")).isExactlyInstanceOf(Component.class);
+        for (String type : ComponentTypes.names()) {
+            assertThat(ComponentTypes.newComponent(type, "Label", "{}").getComponentType()).isEqualTo(type);
+        }
+    }
+
+    @Test
+    void readPage_thenDeserializesNestedComponentsAsSubclasses() throws Exception {
+        String json = "{\"name\": \"Page\", \"components\": [{\"componentType\": \"PANEL\", \"label\": \"Panel\","
+                + " \"childComponents\": [{\"componentType\": \"TEXT_AREA\", \"label\": \"Notes\", \"attributes\": \"{\\\"rows\\\": 4}\"}]},"
+                + " {\"componentType\": \"CUSTOM\", \"label\": \"Custom\"}]}";
+
+        Page page = objectMapper.readValue(json, Page.class);
+
+        Component panel = page.getComponents().get(0);
+        assertThat(panel).isExactlyInstanceOf(PanelComponent.class);
+        assertThat(panel.getChildComponents().get(0)).isInstanceOfSatisfying(TextAreaComponent.class,
+                notes -> assertThat(notes.getRows()).isEqualTo(4));
+        assertThat(panel.getChildComponents().get(0).getParentComponent()).isSameAs(panel);
+        assertThat(page.getComponents().get(1)).isExactlyInstanceOf(Component.class);
+        assertThat(page.getComponents().get(1).getComponentType()).isEqualTo("CUSTOM");
+    }
+
+    @Test
+    void writeComponent_thenKeepsTheUntypedJsonShape() throws Exception {
+        Component field = ComponentTypes.newComponent("TEXT_INPUT", "Name", "{\"required\": true, \"placeholder\": \"Name\"}");
+
+        JsonNode written = objectMapper.readTree(objectMapper.writeValueAsString(field));
+
+        assertThat(written.get("componentType").asText()).isEqualTo("TEXT_INPUT");
+        assertThat(written.get("attributes").asText()).isEqualTo("{\"required\": true, \"placeholder\": \"Name\"}");
+        assertThat(written.has("required")).isFalse();
+        assertThat(written.has("placeholder")).isFalse();
+    }
+}
@@ -0,0 +1,170 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.models.types.PanelComponent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ComponentRepositoryTests {
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void save_givenNestedComponents_thenAssignsPathsAndDepths() {
+        Page page = savePage();
+        Component panel = page.getComponents().get(0);
+        Component nested = panel.getChildComponents().get(0);
+        Component field = nested.getChildComponents().get(0);
+
+        assertThat(panel.getPath()).isEqualTo("/");
+        assertThat(nested.getPath()).isEqualTo("/" + panel.getId() + "/");
+        assertThat(field.getPath()).isEqualTo("/" + panel.getId() + "/" + nested.getId() + "/");
+        assertThat(field.getDepth()).isEqualTo(2);
+        assertThat(panel.isSelfOrAncestorOf(field)).isTrue();
+        assertThat(field.isSelfOrAncestorOf(panel)).isFalse();
+    }
+
+    @Test
+    void findDescendants_thenReturnsWholeSubtreeParentsFirst() {
+        Page page = savePage();
+        Component panel = page.getComponents().get(0);
+
+        List<Component> descendants = componentRepository.findDescendants(panel.getDescendantPathPrefix());
+
+        assertThat(descendants).extracting(Component::getLabel).containsExactly("Nested", "Field", "Other field");
+        assertThat(componentRepository.findMaxDescendantDepth(panel.getDescendantPathPrefix())).isEqualTo(2);
+        assertThat(componentRepository.findMaxDescendantDepth(page.getComponents().get(1).getDescendantPathPrefix())).isNull();
+    }
+
+    @Test
+    void moveDescendants_thenRewritesPathsDepthsAndPage() {
+        Page page = savePage();
+        Page targetPage = savePage();
+        Component nested = page.getComponents().get(0).getChildComponents().get(0);
+        Component field = nested.getChildComponents().get(0);
+        String oldPrefix = nested.getDescendantPathPrefix();
+
+        nested.setParentComponent(null);
+        nested.setPage(targetPage);
+        nested.updatePath();
+        componentRepository.moveDescendants(oldPrefix, nested.getDescendantPathPrefix(), -1, targetPage);
+        entityManager.clear();
+
+        Component movedField = componentRepository.findById(field.getId()).orElseThrow();
+        assertThat(movedField.getPath()).isEqualTo("/" + nested.getId() + "/");
+        assertThat(movedField.getDepth()).isEqualTo(1);
+        assertThat(movedField.getPage().getId()).isEqualTo(targetPage.getId());
+    }
+
+    @Test
+    void deleteSubtree_thenRemovesComponentAndDescendantsOnly() {
+        Page page = savePage();
+        Component panel = page.getComponents().get(0);
+        Component sibling = page.getComponents().get(1);
+
+        componentRepository.detachDescendants(panel.getDescendantPathPrefix());
+        int deleted = componentRepository.deleteSubtree(panel.getId(), panel.getDescendantPathPrefix());
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(4);
+        assertThat(componentRepository.findAll()).extracting(Component::getId).containsExactly(sibling.getId());
+    }
+
+    @Test
+    void findByPage_givenEveryComponentType_thenLoadsSubclassesWithOneSingleTableQuery() {
+        Form form = new Form("Types", "One component of each type");
+        Page page = new Page("Page");
+        form.addPage(page);
+        List<String> types = new ArrayList<>(ComponentTypes.names());
+        types.add("CUSTOM");
+        for (int i = 0; i < types.size(); i++) {
+            Component component = ComponentTypes.newComponent(types.get(i), types.get(i), "{}");
+            component.setOrderIndex(i);
+            page.addComponent(component);
+        }
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Component> loaded = componentRepository.findByPageIdAndParentComponentIsNull(page.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(loaded).hasSize(types.size()).allSatisfy(component -> assertThat(component.getClass())
+                .isEqualTo(ComponentTypes.newComponent(component.getComponentType(), null, null).getClass()));
+    }
+
+    @Test
+    void componentSubclasses_thenMapToTheComponentsTable() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        AbstractEntityPersister root = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Component.class);
+        AbstractEntityPersister panel = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(PanelComponent.class);
+
+        assertThat(root).isInstanceOf(SingleTableEntityPersister.class);
+        assertThat(root.getTableName()).isEqualTo("components");
+        assertThat(panel.getTableName()).isEqualTo("components");
+        assertThat(panel.getDiscriminatorValue()).isEqualTo(PanelComponent.TYPE);
+    }
+
+    /**
+     * A page with a panel holding a nested panel (with two fields) and a root sibling field.
+     */
+    private Page savePage() {
+        Form form = new Form("Paths", "Materialized path fixture");
+        Page page = new Page("Page");
+        form.addPage(page);
+
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        panel.setOrderIndex(0);
+        page.addComponent(panel);
+        Component nested = ComponentTypes.newComponent("PANEL", "Nested", "{}");
+        nested.setPage(page);
+        panel.addChildComponent(nested);
+        Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+        field.setPage(page);
+        nested.addChildComponent(field);
+        Component otherField = ComponentTypes.newComponent("TEXT_INPUT", "Other field", "{}");
+        otherField.setOrderIndex(1);
+        otherField.setPage(page);
+        nested.addChildComponent(otherField);
+
+        Component sibling = ComponentTypes.newComponent("TEXT_INPUT", "Sibling", "{}");
+        sibling.setOrderIndex(1);
+        page.addComponent(sibling);
+
+        formRepository.save(form);
+        entityManager.flush();
+        return page;
+    }
+}
@@ -0,0 +1,168 @@
+package com.formbuilder.backend.repositories;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormSummary;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FormRepositoryTests {
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findTreeById_givenDeeplyNestedForm_thenBuildsWholeTree() {
+        Form form = saveForm(3, 4);
+
+        Form tree = formRepository.findTreeById(form.getId()).orElseThrow();
+
+        assertThat(tree.getPages()).hasSize(3);
+        Page firstPage = tree.getPages().get(0);
+        assertThat(firstPage.getName()).isEqualTo("Page 0");
+        assertThat(firstPage.getComponents()).hasSize(2);
+
+        Component component = firstPage.getComponents().get(0);
+        int depth = 1;
+        while (!component.getChildComponents().isEmpty()) {
+            component = component.getChildComponents().get(0);
+            depth++;
+        }
+        assertThat(depth).isEqualTo(4);
+        assertThat(component.getLabel()).isEqualTo("Level 3");
+        assertThat(component.getPage()).isSameAs(firstPage);
+    }
+
+    @Test
+    void findTreeById_givenDeeperNesting_thenQueryCountStaysFixed() {
+        Form shallowForm = saveForm(2, 1);
+        Form deepForm = saveForm(2, 8);
+
+        statistics.clear();
+        formRepository.findTreeById(shallowForm.getId()).orElseThrow();
+        long shallowStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        formRepository.findTreeById(deepForm.getId()).orElseThrow();
+        long deepStatements = statistics.getPrepareStatementCount();
+
+        assertThat(shallowStatements).isEqualTo(3);
+        assertThat(deepStatements).isEqualTo(shallowStatements);
+    }
+
+    @Test
+    void findTreeById_givenUnknownId_thenReturnEmpty() {
+        assertThat(formRepository.findTreeById(12345L)).isEmpty();
+    }
+
+    @Test
+    void findSummaries_givenNestedForm_thenCountsPagesAndAllComponents() {
+        Form form = saveForm(2, 3);
+
+        List<FormSummary> summaries = formRepository.findSummaries(form.getId() - 1, null, PageRequest.ofSize(10));
+
+        assertThat(summaries).hasSize(1);
+        FormSummary summary = summaries.get(0);
+        assertThat(summary.id()).isEqualTo(form.getId());
+        assertThat(summary.name()).isEqualTo("Nested Form");
+        assertThat(summary.pageCount()).isEqualTo(2);
+        // Three nested panels and one sibling per page
+        assertThat(summary.componentCount()).isEqualTo(8);
+        assertThat(summary.lastModified()).isNotNull();
+    }
+
+    @Test
+    void findSummaries_givenAfterId_thenReturnsNextKeysetPage() {
+        Form first = formRepository.save(new Form("Alpha", null));
+        Form second = formRepository.save(new Form("Beta", null));
+        Form third = formRepository.save(new Form("Gamma", null));
+        entityManager.flush();
+
+        List<FormSummary> firstPage = formRepository.findSummaries(first.getId() - 1, null, PageRequest.ofSize(2));
+        List<FormSummary> secondPage = formRepository.findSummaries(firstPage.get(1).id(), null, PageRequest.ofSize(2));
+
+        assertThat(firstPage).extracting(FormSummary::id).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(FormSummary::id).containsExactly(third.getId());
+    }
+
+    @Test
+    void findSummaries_givenNamePrefix_thenFiltersByPrefixOnly() {
+        formRepository.save(new Form("Survey 2024", null));
+        formRepository.save(new Form("Survey_old", null));
+        formRepository.save(new Form("Customer Survey", null));
+        entityManager.flush();
+
+        assertThat(formRepository.findSummaries(0L, "Survey", PageRequest.ofSize(10)))
+                .extracting(FormSummary::name).containsExactly("Survey 2024", "Survey_old");
+        // '_' is escaped so that it only matches itself
+        assertThat(formRepository.findSummaries(0L, "Survey!_", PageRequest.ofSize(10)))
+                .extracting(FormSummary::name).containsExactly("Survey_old");
+    }
+
+    @Test
+    void touch_thenUpdatesLastModified() {
+        Form form = formRepository.save(new Form("Touched", null));
+        entityManager.flush();
+        Instant modifiedAt = Instant.parse("2030-01-01T00:00:00Z");
+
+        formRepository.touch(form.getId(), modifiedAt);
+        entityManager.clear();
+
+        assertThat(formRepository.findById(form.getId()).orElseThrow().getLastModified()).isEqualTo(modifiedAt);
+    }
+
+    private Form saveForm(int pageCount, int depth) {
+        Form form = new Form("Nested Form", "Depth " + depth);
+        for (int p = 0; p < pageCount; p++) {
+            Page page = new Page("Page " + p);
+            page.setOrderIndex(p);
+            form.addPage(page);
+
+            Component panel = ComponentTypes.newComponent("PANEL", "Level 0", "{}");
+            page.addComponent(panel);
+            Component parent = panel;
+            for (int level = 1; level < depth; level++) {
+                Component child = ComponentTypes.newComponent("PANEL", "Level " + level, "{}");
+                child.setPage(page);
+                parent.addChildComponent(child);
+                parent = child;
+            }
+
+            Component sibling = ComponentTypes.newComponent("TEXT_INPUT", "Sibling", "{}");
+            sibling.setOrderIndex(1);
+            page.addComponent(sibling);
+        }
+        Form savedForm = formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        return savedForm;
+    }
+}
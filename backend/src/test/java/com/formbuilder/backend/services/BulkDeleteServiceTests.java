@@ -0,0 +1,115 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(BulkDeleteService.class)
+class BulkDeleteServiceTests {
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deletePage_givenDeeplyNestedComponents_thenDeletesWithoutLoadingThem() {
+        Form form = saveForm(2, 20, 5);
+        Page deleted = form.getPages().get(0);
+        Page kept = form.getPages().get(1);
+
+        statistics.clear();
+        int components = bulkDeleteService.deletePage(deleted.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(components).isEqualTo(100);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(pageRepository.existsById(deleted.getId())).isFalse();
+        assertThat(componentRepository.count()).isEqualTo(100);
+        assertThat(pageRepository.findTreeById(kept.getId()).orElseThrow().getComponents()).hasSize(20);
+    }
+
+    @Test
+    void deleteForm_thenDeletesPagesAndComponentsOfThatFormOnly() {
+        Form deleted = saveForm(3, 10, 3);
+        Form kept = saveForm(1, 2, 2);
+
+        statistics.clear();
+        int components = bulkDeleteService.deleteForm(deleted.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(components).isEqualTo(90);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(formRepository.existsById(deleted.getId())).isFalse();
+        assertThat(pageRepository.findByFormId(deleted.getId())).isEmpty();
+        assertThat(formRepository.findTreeById(kept.getId()).orElseThrow().getPages().get(0).getComponents()).hasSize(2);
+        assertThat(componentRepository.count()).isEqualTo(4);
+    }
+
+    /**
+     * A form whose pages each hold {@code rootsPerPage} chains of {@code depth} nested components.
+     */
+    private Form saveForm(int pageCount, int rootsPerPage, int depth) {
+        Form form = new Form("Bulk Delete", null);
+        for (int p = 0; p < pageCount; p++) {
+            Page page = new Page("Page " + p);
+            page.setOrderIndex(p);
+            form.addPage(page);
+            for (int r = 0; r < rootsPerPage; r++) {
+                Component parent = ComponentTypes.newComponent("PANEL", "Root " + r, "{}");
+                parent.setOrderIndex(r);
+                page.addComponent(parent);
+                for (int level = 1; level < depth; level++) {
+                    Component child = ComponentTypes.newComponent("PANEL", "Level " + level, "{}");
+                    child.setPage(page);
+                    parent.addChildComponent(child);
+                    parent = child;
+                }
+            }
+        }
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        return form;
+    }
+}
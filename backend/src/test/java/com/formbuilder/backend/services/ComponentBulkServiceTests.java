@@ -0,0 +1,120 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.exceptions.InvalidComponentTypeException;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ComponentBulkService.class, SiblingOrderService.class})
+class ComponentBulkServiceTests {
+
+    @Autowired
+    private ComponentBulkService componentBulkService;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Page page;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Form form = new Form("Bulk Form", "Bulk inserts");
+        page = new Page("Page");
+        form.addPage(page);
+        page.addComponent(ComponentTypes.newComponent("TEXT_INPUT", "Existing", "{}"));
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void createInPage_givenNestedSubtrees_thenAppendAfterExistingComponents() {
+        List<Component> created = componentBulkService.createInPage(page.getId(), List.of(panel("Address", 2), panel("Contact", 1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(created).extracting(Component::getOrderIndex).containsExactly(SiblingOrderService.GAP, 2 * SiblingOrderService.GAP);
+        List<Component> roots = componentRepository.findByPageIdAndParentComponentIsNull(page.getId());
+        assertThat(roots).hasSize(3);
+        Component address = componentRepository.findById(created.get(0).getId()).orElseThrow();
+        assertThat(address.getChildComponents()).extracting(Component::getLabel).containsExactly("Address 0", "Address 1");
+        assertThat(address.getChildComponents().get(1).getOrderIndex()).isEqualTo(SiblingOrderService.GAP);
+        assertThat(address.getChildComponents().get(0).getPage().getId()).isEqualTo(page.getId());
+    }
+
+    @Test
+    void createInPage_givenPayloadWithIds_thenInsertNewRows() {
+        Component copied = ComponentTypes.newComponent("TEXT_INPUT", "Copied", "{}");
+        copied.setId(987654L);
+
+        List<Component> created = componentBulkService.createInPage(page.getId(), List.of(copied));
+
+        assertThat(created.get(0).getId()).isNotEqualTo(987654L);
+    }
+
+    @Test
+    void createInPage_givenManyComponents_thenInsertInJdbcBatches() {
+        List<Component> subtrees = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            subtrees.add(panel("Panel " + i, 2));
+        }
+
+        statistics.clear();
+        componentBulkService.createInPage(page.getId(), subtrees);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // Page lookup, sibling count, a few pooled sequence calls and one prepared INSERT per batch
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    void createInPage_givenChildWithoutType_thenRejectsTheWholePayload() {
+        Component panel = panel("Address", 1);
+        panel.addChildComponent(new Component());
+        long before = componentRepository.count();
+
+        assertThatThrownBy(() -> componentBulkService.createInPage(page.getId(), List.of(panel)))
+                .isInstanceOf(InvalidComponentTypeException.class);
+        assertThat(componentRepository.count()).isEqualTo(before);
+    }
+
+    private Component panel(String label, int childCount) {
+        Component panel = ComponentTypes.newComponent("PANEL", label, "{}");
+        for (int i = 0; i < childCount; i++) {
+            panel.addChildComponent(ComponentTypes.newComponent("TEXT_INPUT", label + " " + i, "{}"));
+        }
+        return panel;
+    }
+}
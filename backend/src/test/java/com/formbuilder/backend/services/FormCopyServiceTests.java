@@ -0,0 +1,140 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({FormCopyService.class, SiblingOrderService.class})
+class FormCopyServiceTests {
+
+    @Autowired
+    private FormCopyService formCopyService;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Form source;
+
+    @BeforeEach
+    void setUp() {
+        source = new Form("Template", "Source form");
+        for (int p = 0; p < 2; p++) {
+            Page page = new Page("Page " + p);
+            page.setOrderIndex(p);
+            source.addPage(page);
+            Component panel = ComponentTypes.newComponent("PANEL", "Panel " + p, "{}");
+            page.addComponent(panel);
+            Component nested = ComponentTypes.newComponent("PANEL", "Nested " + p, "{}");
+            nested.setPage(page);
+            panel.addChildComponent(nested);
+            Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field " + p, "{\"required\": true}");
+            field.setPage(page);
+            nested.addChildComponent(field);
+        }
+        formRepository.save(source);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void copyForm_thenCopyWholeHierarchyWithNewIds() {
+        List<int[]> progress = new ArrayList<>();
+
+        Long copyId = formCopyService.copyForm(source.getId(), null,
+                (copied, total) -> progress.add(new int[]{copied, total}));
+
+        Form copy = formRepository.findTreeById(copyId).orElseThrow();
+        assertThat(copy.getName()).isEqualTo("Template (Copy)");
+        assertThat(copy.getPages()).extracting(Page::getName).containsExactly("Page 0", "Page 1");
+
+        Component field = copy.getPages().get(1).getComponents().get(0)
+                .getChildComponents().get(0)
+                .getChildComponents().get(0);
+        assertThat(field.getLabel()).isEqualTo("Field 1");
+        assertThat(field.getAttributes()).isEqualTo("{\"required\": true}");
+
+        Form original = formRepository.findTreeById(source.getId()).orElseThrow();
+        assertThat(field.getId()).isNotEqualTo(original.getPages().get(1).getComponents().get(0)
+                .getChildComponents().get(0).getChildComponents().get(0).getId());
+        assertThat(progress).last().satisfies(last -> assertThat(last).containsExactly(6, 6));
+    }
+
+    @Test
+    void copyForm_givenPageLargerThanFlushInterval_thenReportProgressEveryFlushWithinThePage() {
+        Form large = new Form("Large", null);
+        Page page = new Page("Only page");
+        large.addPage(page);
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        for (int i = 0; i < 1199; i++) {
+            Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            field.setOrderIndex(i);
+            field.setPage(page);
+            panel.addChildComponent(field);
+        }
+        formRepository.save(large);
+        entityManager.flush();
+        entityManager.clear();
+        List<int[]> progress = new ArrayList<>();
+
+        Long copyId = formCopyService.copyForm(large.getId(), null,
+                (copied, total) -> progress.add(new int[]{copied, total}));
+
+        assertThat(progress).extracting(line -> line[0]).containsExactly(500, 1000, 1200);
+        assertThat(progress).allSatisfy(line -> assertThat(line[1]).isEqualTo(1200));
+        Component copiedPanel = formRepository.findTreeById(copyId).orElseThrow()
+                .getPages().get(0).getComponents().get(0);
+        assertThat(copiedPanel.getChildComponents()).hasSize(1199);
+        assertThat(copiedPanel.getChildComponents().get(1198).getLabel()).isEqualTo("Field 1198");
+        assertThat(componentRepository.findById(copiedPanel.getChildComponents().get(1198).getId()).orElseThrow().getPath())
+                .isEqualTo("/" + copiedPanel.getId() + "/");
+    }
+
+    @Test
+    void copyPage_thenReportProgress() {
+        List<int[]> progress = new ArrayList<>();
+
+        formCopyService.copyPage(source.getPages().get(0).getId(), null, null,
+                (copied, total) -> progress.add(new int[]{copied, total}));
+
+        assertThat(progress).hasSize(1).first().satisfies(line -> assertThat(line).containsExactly(3, 3));
+    }
+
+    @Test
+    void copyPage_givenNoTargetForm_thenAppendToSourceForm() {
+        Long pageId = source.getPages().get(0).getId();
+
+        Long copyId = formCopyService.copyPage(pageId, null, null, CopyProgressListener.NONE);
+
+        Page copy = pageRepository.findTreeById(copyId).orElseThrow();
+        assertThat(copy.getName()).isEqualTo("Page 0 (Copy)");
+        assertThat(copy.getOrderIndex()).isEqualTo(1 + SiblingOrderService.GAP);
+        assertThat(copy.getComponents().get(0).getChildComponents().get(0).getLabel()).isEqualTo("Nested 0");
+        assertThat(pageRepository.findFormIdById(copyId)).contains(source.getId());
+    }
+}
@@ -0,0 +1,193 @@
+package com.formbuilder.backend.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.cache.FormSnapshot;
+import com.formbuilder.backend.events.FormChangedEvent;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.FormDocument;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormDocumentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({FormDocumentProjector.class, BulkDeleteService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class FormDocumentProjectorTests {
+
+    @Autowired
+    private FormDocumentProjector formDocumentProjector;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private FormDocumentRepository formDocumentRepository;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void project_thenStoresTheFormJsonReadBackWithOneStatementAndNoEntities() throws Exception {
+        Form form = saveForm();
+
+        FormSnapshot projected = formDocumentProjector.project(form.getId()).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        FormSnapshot stored = formDocumentRepository.findSnapshotByFormId(form.getId()).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(stored.version()).isEqualTo(projected.version());
+        assertThat(stored.json()).isEqualTo(objectMapper.writeValueAsBytes(formRepository.findTreeById(form.getId()).orElseThrow()));
+        assertThat(objectMapper.readTree(stored.json()).at("/pages/0/components/0/childComponents/0/label").asText())
+                .isEqualTo("Field");
+    }
+
+    @Test
+    void project_givenExistingDocument_thenReplacesIt() {
+        Form form = saveForm();
+        formDocumentProjector.project(form.getId());
+        formRepository.touch(form.getId(), Instant.now());
+        entityManager.clear();
+
+        FormSnapshot projected = formDocumentProjector.project(form.getId()).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(formDocumentRepository.count()).isEqualTo(1);
+        assertThat(formDocumentRepository.findSnapshotByFormId(form.getId()).orElseThrow().version())
+                .isEqualTo(projected.version());
+    }
+
+    @Test
+    void replace_givenOlderVersionThanStored_thenKeepsTheStoredDocument() {
+        Form form = saveForm();
+        FormSnapshot projected = formDocumentProjector.project(form.getId()).orElseThrow();
+        entityManager.flush();
+
+        int replaced = formDocumentRepository.replace(form.getId(), projected.version() - 1,
+                "{}".getBytes(StandardCharsets.UTF_8), Instant.now());
+        entityManager.clear();
+
+        assertThat(replaced).isZero();
+        assertThat(formDocumentRepository.findSnapshotByFormId(form.getId()).orElseThrow().json()).isEqualTo(projected.json());
+    }
+
+    @Test
+    void project_givenDeletedForm_thenRemovesItsDocument() {
+        formDocumentRepository.saveAndFlush(new FormDocument(999L, 1L, "{}".getBytes(StandardCharsets.UTF_8), Instant.now()));
+
+        assertThat(formDocumentProjector.project(999L)).isEmpty();
+        entityManager.clear();
+        assertThat(formDocumentRepository.findSnapshotByFormId(999L)).isEmpty();
+    }
+
+    @Test
+    void project_givenFormDeletedAfterItsTreeWasRead_thenWritesNoDocument() {
+        Form form = saveForm();
+        FormRepository deletingRepository = mock(FormRepository.class, delegatesTo(formRepository));
+        doAnswer(invocation -> {
+            Optional<Form> tree = formRepository.findTreeById(invocation.getArgument(0));
+            bulkDeleteService.deleteForm(form.getId());
+            return tree;
+        }).when(deletingRepository).findTreeById(anyLong());
+        FormDocumentProjector projector = new FormDocumentProjector(deletingRepository, formDocumentRepository,
+                objectMapper, transactionTemplate, Runnable::run);
+
+        assertThat(projector.project(form.getId())).isPresent();
+        entityManager.clear();
+        assertThat(formDocumentRepository.findSnapshotByFormId(form.getId())).isEmpty();
+    }
+
+    @Test
+    void onFormChanged_givenDeleteCommittedDuringProjection_thenProjectsAgainAfterItAndDropsTheDocument() {
+        Form form = saveForm();
+        List<Runnable> scheduled = new ArrayList<>();
+        FormRepository slowRepository = mock(FormRepository.class, delegatesTo(formRepository));
+        FormDocumentProjector[] projector = new FormDocumentProjector[1];
+        AtomicInteger reads = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (reads.incrementAndGet() > 1) {
+                return Optional.empty();
+            }
+            // The form is deleted (and its change event delivered) while this run holds the old tree
+            Optional<Form> tree = formRepository.findTreeById(invocation.getArgument(0));
+            projector[0].onFormChanged(new FormChangedEvent(form.getId()));
+            return tree;
+        }).when(slowRepository).findTreeById(anyLong());
+        projector[0] = new FormDocumentProjector(slowRepository, formDocumentRepository,
+                objectMapper, transactionTemplate, scheduled::add);
+
+        projector[0].onFormChanged(new FormChangedEvent(form.getId()));
+        assertThat(scheduled).hasSize(1);
+        scheduled.remove(0).run();
+        entityManager.clear();
+
+        assertThat(scheduled).isEmpty();
+        assertThat(reads).hasValue(2);
+        assertThat(formDocumentRepository.findSnapshotByFormId(form.getId())).isEmpty();
+    }
+
+    private Form saveForm() {
+        Form form = new Form("Rendered", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+        field.setPage(page);
+        panel.addChildComponent(field);
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        return form;
+    }
+}
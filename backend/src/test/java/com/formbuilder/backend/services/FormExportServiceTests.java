@@ -0,0 +1,80 @@
+package com.formbuilder.backend.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.FormRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(FormExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class FormExportServiceTests {
+
+    @Autowired
+    private FormExportService formExportService;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportAll_thenWriteOneCompleteFormPerLine() throws Exception {
+        Form emptyForm = formRepository.save(new Form("Empty", "No pages"));
+        Form nestedForm = new Form("Nested", "Pages and components");
+        Page page = new Page("Page");
+        nestedForm.addPage(page);
+        Component panel = ComponentTypes.newComponent("PANEL", "Panel", "{}");
+        page.addComponent(panel);
+        Component field = ComponentTypes.newComponent("TEXT_INPUT", "Field", "{}");
+        field.setPage(page);
+        panel.addChildComponent(field);
+        formRepository.save(nestedForm);
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int exported = formExportService.exportAll(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(lines.length);
+
+        JsonNode empty = findLine(lines, emptyForm.getId());
+        assertThat(empty.get("pages")).isEmpty();
+
+        JsonNode nested = findLine(lines, nestedForm.getId());
+        assertThat(nested.at("/pages/0/components/0/label").asText()).isEqualTo("Panel");
+        assertThat(nested.at("/pages/0/components/0/childComponents/0/label").asText()).isEqualTo("Field");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private JsonNode findLine(String[] lines, Long formId) throws Exception {
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            if (node.get("id").asLong() == formId) {
+                return node;
+            }
+        }
+        throw new AssertionError("Form " + formId + " was not exported");
+    }
+}
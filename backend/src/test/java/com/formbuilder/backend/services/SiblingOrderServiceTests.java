@@ -0,0 +1,142 @@
+package com.formbuilder.backend.services;
+
+import com.formbuilder.backend.exceptions.InvalidComponentMoveException;
+import com.formbuilder.backend.models.Component;
+import com.formbuilder.backend.models.Form;
+import com.formbuilder.backend.models.Page;
+import com.formbuilder.backend.models.types.ComponentTypes;
+import com.formbuilder.backend.repositories.ComponentRepository;
+import com.formbuilder.backend.repositories.FormRepository;
+import com.formbuilder.backend.repositories.PageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(SiblingOrderService.class)
+class SiblingOrderServiceTests {
+
+    @Autowired
+    private SiblingOrderService siblingOrderService;
+
+    @Autowired
+    private FormRepository formRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private ComponentRepository componentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void placeComponent_givenGappedSiblings_thenUpdatesOnlyThatComponent() {
+        Page page = savePage(500, SiblingOrderService.GAP);
+        List<Long> ids = rootIds(page);
+
+        statistics.clear();
+        List<Long> renumbered = siblingOrderService.placeComponent(
+                componentRepository.findById(ids.get(499)).orElseThrow(), ids.get(0), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(renumbered).isEmpty();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(rootIds(page).subList(0, 3)).containsExactly(ids.get(0), ids.get(499), ids.get(1));
+        assertThat(componentRepository.findById(ids.get(499)).orElseThrow().getOrderIndex())
+                .isEqualTo(SiblingOrderService.GAP / 2);
+    }
+
+    @Test
+    void placeComponent_givenNoKeyLeftBetweenNeighbours_thenRenumbersSiblings() {
+        Page page = savePage(4, 1);
+        List<Long> ids = rootIds(page);
+
+        List<Long> renumbered = siblingOrderService.placeComponent(
+                componentRepository.findById(ids.get(3)).orElseThrow(), null, ids.get(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> expected = List.of(ids.get(0), ids.get(3), ids.get(1), ids.get(2));
+        assertThat(renumbered).isEqualTo(expected);
+        assertThat(rootIds(page)).isEqualTo(expected);
+        assertThat(componentRepository.findAllById(ids)).extracting(Component::getOrderIndex)
+                .containsExactlyInAnyOrder(0, SiblingOrderService.GAP, 2 * SiblingOrderService.GAP, 3 * SiblingOrderService.GAP);
+    }
+
+    @Test
+    void placeComponent_givenAnchorInOtherContainer_thenThrows() {
+        Page page = savePage(2, SiblingOrderService.GAP);
+        Page otherPage = savePage(1, SiblingOrderService.GAP);
+        Component component = componentRepository.findById(rootIds(page).get(0)).orElseThrow();
+
+        assertThatThrownBy(() -> siblingOrderService.placeComponent(component, rootIds(otherPage).get(0), null))
+                .isInstanceOf(InvalidComponentMoveException.class);
+    }
+
+    @Test
+    void placePage_givenBeforeFirstPage_thenTakesKeyBelowIt() {
+        Form form = new Form("Pages", null);
+        for (int i = 0; i < 3; i++) {
+            Page page = new Page("Page " + i);
+            page.setOrderIndex(i * SiblingOrderService.GAP);
+            form.addPage(page);
+        }
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        Page last = pageRepository.findById(form.getPages().get(2).getId()).orElseThrow();
+
+        List<Long> renumbered = siblingOrderService.placePage(last, null, form.getPages().get(0).getId());
+
+        assertThat(renumbered).isEmpty();
+        assertThat(last.getOrderIndex()).isEqualTo(-SiblingOrderService.GAP);
+        assertThat(siblingOrderService.nextPageOrderIndex(form.getId())).isEqualTo(2 * SiblingOrderService.GAP);
+    }
+
+    /**
+     * A page holding {@code count} root components whose keys are {@code step} apart.
+     */
+    private Page savePage(int count, int step) {
+        Form form = new Form("Order", null);
+        Page page = new Page("Page");
+        form.addPage(page);
+        for (int i = 0; i < count; i++) {
+            Component component = ComponentTypes.newComponent("TEXT_INPUT", "Field " + i, "{}");
+            component.setOrderIndex(i * step);
+            page.addComponent(component);
+        }
+        formRepository.save(form);
+        entityManager.flush();
+        entityManager.clear();
+        return page;
+    }
+
+    private List<Long> rootIds(Page page) {
+        return pageRepository.findTreeById(page.getId()).orElseThrow().getComponents().stream()
+                .map(Component::getId).toList();
+    }
+}
@@ -0,0 +1,53 @@
+-- db/schema-h2.sql as the file profile applied it before the schema was managed by Flyway
+
+-- Sequence increments must match the entities' allocationSize (pooled ids)
+create sequence if not exists forms_seq start with 1 increment by 50;
+create sequence if not exists pages_seq start with 1 increment by 50;
+create sequence if not exists components_seq start with 1 increment by 50;
+
+create table if not exists forms (
+    id bigint not null,
+    name varchar(255),
+    description varchar(255),
+    last_modified timestamp(6) with time zone,
+    version bigint,
+    primary key (id)
+);
+create index if not exists idx_forms_name on forms (name);
+
+create table if not exists pages (
+    id bigint not null,
+    name varchar(255),
+    order_index integer,
+    form_id bigint,
+    primary key (id),
+    constraint fk_pages_form foreign key (form_id) references forms (id)
+);
+
+create table if not exists components (
+    id bigint not null,
+    component_type varchar(255),
+    label varchar(255),
+    order_index integer,
+    path varchar(1024) not null,
+    depth integer not null,
+    attributes clob,
+    page_id bigint,
+    parent_component_id bigint,
+    primary key (id),
+    constraint fk_components_page foreign key (page_id) references pages (id),
+    constraint fk_components_parent foreign key (parent_component_id) references components (id)
+);
+create index if not exists idx_components_path on components (path);
+
+create table if not exists form_changes (
+    id bigint generated by default as identity,
+    form_id bigint not null,
+    seq bigint,
+    type varchar(32) not null,
+    entity_id bigint,
+    data clob,
+    created_at timestamp(6) with time zone,
+    primary key (id)
+);
+create index if not exists idx_form_changes_form_seq on form_changes (form_id, seq);
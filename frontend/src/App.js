@@ -1,10 +1,12 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import FormTree from './components/FormTree';
 import AttributePanel from './components/AttributePanel';
 import PageEditor from './components/PageEditor'; // New component for center panel
 import { 
   getForm, 
   getAllForms, 
+  getFormChanges,
+  subscribeToFormEvents,
   updateForm, 
   updatePage, 
   updateComponent,
@@ -13,9 +15,10 @@ import {
   createComponent,
   createNestedComponent,
   deleteComponent,
-  reorderPages,
-  reorderComponents
+  positionPage,
+  positionComponent
 } from './services/api';
+import { applyFormChanges, findNode } from './services/formChanges';
 import './App.css';
 
 function App() {
@@ -41,10 +44,69 @@ function App() {
     }
   };
 
+  // Brings currentForm up to date after an edit by applying the form's change log since the
+  // version we hold, and only falls back to reloading the whole form when that isn't possible
+  const syncForm = async () => {
+    if (currentForm.version == null) {
+      await fetchAndSetForm(currentForm.id);
+      return;
+    }
+    let nextForm = null;
+    try {
+      const feed = await getFormChanges(currentForm.id, currentForm.version);
+      nextForm = applyFormChanges(currentForm, feed);
+    } catch (err) {
+      console.error(`Failed to fetch changes of form ID ${currentForm.id}:`, err);
+    }
+    if (!nextForm) {
+      await fetchAndSetForm(currentForm.id);
+      return;
+    }
+    setCurrentForm(nextForm);
+    setError(null);
+    setCurrentPage(page => (page && findNode(nextForm, 'page', page.id)) || nextForm.pages[0] || null);
+    setSelectedNode(node => {
+      const current = node && findNode(nextForm, node.nodeType, node.id);
+      return current ? { ...current, nodeType: node.nodeType } : node;
+    });
+  };
+
+  // Changes pushed by the server, whoever made them. Our own edits arrive here as well as through
+  // syncForm; whichever comes second is skipped because its seq is not newer than our version.
+  const formRef = useRef(null);
+  formRef.current = currentForm;
+  const formId = currentForm ? currentForm.id : null;
+  const hasVersion = currentForm ? currentForm.version != null : false;
+
+  useEffect(() => {
+    if (formId == null || !hasVersion) {
+      return undefined;
+    }
+    return subscribeToFormEvents(formId, formRef.current.version, {
+      onChange: (change) => {
+        const form = formRef.current;
+        if (!form || form.id !== formId || change.seq <= form.version) {
+          return;
+        }
+        const nextForm = applyFormChanges(form, { version: change.seq, reset: false, changes: [change] });
+        if (!nextForm) {
+          fetchAndSetForm(formId);
+          return;
+        }
+        formRef.current = nextForm;
+        setCurrentForm(nextForm);
+        setCurrentPage(page => (page && findNode(nextForm, 'page', page.id)) || nextForm.pages[0] || null);
+      },
+      onReset: () => fetchAndSetForm(formId)
+    });
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [formId, hasVersion]);
+
   useEffect(() => {
     const loadInitialForm = async () => {
       try {
-        const forms = await getAllForms();
+        // Only the first form is opened, so one summary is all that is needed
+        const forms = await getAllForms({ size: 1 });
         if (forms && forms.length > 0) {
           await fetchAndSetForm(forms[0].id);
         } else {
@@ -106,7 +168,7 @@ function App() {
       }
       if (success) {
         console.log(`${nodeType} with ID ${id} updated successfully.`);
-        await fetchAndSetForm(currentForm.id);
+        await syncForm();
       }
     } catch (err) {
       setError(`Failed to update ${nodeType} ID ${id}: ${err.message}`);
@@ -120,7 +182,7 @@ function App() {
     try {
       const newPage = await createPage(formId, pageData);
       console.log('Page created successfully:', newPage);
-      await fetchAndSetForm(currentForm.id);
+      await syncForm();
       // Auto-select the newly created page
       setSelectedNode({ ...newPage, nodeType: 'page' });
       setCurrentPage(newPage);
@@ -148,7 +210,7 @@ function App() {
       }
       
       console.log('Component created successfully:', newComponent);
-      await fetchAndSetForm(currentForm.id);
+      await syncForm();
       
       // Auto-select the newly created component
       setSelectedNode({ ...newComponent, nodeType: 'component' });
@@ -164,7 +226,7 @@ function App() {
     try {
       await deletePage(pageId);
       console.log('Page deleted successfully');
-      await fetchAndSetForm(currentForm.id);
+      await syncForm();
       
       // Clear selection if deleted page was selected
       if (selectedNode && selectedNode.nodeType === 'page' && selectedNode.id === pageId) {
@@ -181,7 +243,7 @@ function App() {
     try {
       await deleteComponent(componentId);
       console.log('Component deleted successfully');
-      await fetchAndSetForm(currentForm.id);
+      await syncForm();
       
       // Clear selection if deleted component was selected
       if (selectedNode && selectedNode.nodeType === 'component' && selectedNode.id === componentId) {
@@ -210,18 +272,15 @@ function App() {
         
         if (direction === 'up' && currentIndex > 0) {
           console.log('⬆️ Moving page up:', { currentIndex, pageId: itemId });
-          const newOrder = [...pages];
-          [newOrder[currentIndex], newOrder[currentIndex - 1]] = [newOrder[currentIndex - 1], newOrder[currentIndex]];
-          const pageIds = newOrder.map(p => p.id);
-          console.log('📤 Calling reorderPages API with:', pageIds);
-          await reorderPages(currentForm.id, pageIds);
+          // Only the moved page gets a new orderIndex; its siblings are left alone
+          const position = { beforeId: pages[currentIndex - 1].id };
+          console.log('📤 Calling positionPage API with:', position);
+          await positionPage(itemId, position);
         } else if (direction === 'down' && currentIndex < pages.length - 1) {
           console.log('⬇️ Moving page down:', { currentIndex, pageId: itemId });
-          const newOrder = [...pages];
-          [newOrder[currentIndex], newOrder[currentIndex + 1]] = [newOrder[currentIndex + 1], newOrder[currentIndex]];
-          const pageIds = newOrder.map(p => p.id);
-          console.log('📤 Calling reorderPages API with:', pageIds);
-          await reorderPages(currentForm.id, pageIds);
+          const position = { afterId: pages[currentIndex + 1].id };
+          console.log('📤 Calling positionPage API with:', position);
+          await positionPage(itemId, position);
         } else {
           console.log('🚫 Page move blocked:', { direction, currentIndex, totalPages: pages.length });
         }
@@ -289,18 +348,14 @@ function App() {
           
           if (direction === 'up' && currentIndex > 0) {
             console.log('⬆️ Moving component up');
-            const newOrder = [...siblingComponents];
-            [newOrder[currentIndex], newOrder[currentIndex - 1]] = [newOrder[currentIndex - 1], newOrder[currentIndex]];
-            const componentIds = newOrder.map(c => c.id);
-            console.log('📤 Calling reorderComponents with:', { parentPageId, componentIds });
-            await reorderComponents(parentPageId, 'page', componentIds);
+            const position = { beforeId: siblingComponents[currentIndex - 1].id };
+            console.log('📤 Calling positionComponent with:', { itemId, position });
+            await positionComponent(itemId, position);
           } else if (direction === 'down' && currentIndex < siblingComponents.length - 1) {
             console.log('⬇️ Moving component down');
-            const newOrder = [...siblingComponents];
-            [newOrder[currentIndex], newOrder[currentIndex + 1]] = [newOrder[currentIndex + 1], newOrder[currentIndex]];
-            const componentIds = newOrder.map(c => c.id);
-            console.log('📤 Calling reorderComponents with:', { parentPageId, componentIds });
-            await reorderComponents(parentPageId, 'page', componentIds);
+            const position = { afterId: siblingComponents[currentIndex + 1].id };
+            console.log('📤 Calling positionComponent with:', { itemId, position });
+            await positionComponent(itemId, position);
           } else {
             console.log('🚫 Component move blocked:', { direction, currentIndex, totalComponents: siblingComponents.length });
           }
@@ -308,7 +363,7 @@ function App() {
           console.log('🔧 Using provided parentInfo:', parentInfo);
           
           // Use provided parent info for nested components  
-          const { containerId, containerType, siblingComponents } = parentInfo;
+          const { siblingComponents } = parentInfo;
           
           if (!siblingComponents || !Array.isArray(siblingComponents)) {
             console.log('❌ Invalid siblingComponents in parentInfo');
@@ -324,18 +379,14 @@ function App() {
           
           if (direction === 'up' && currentIndex > 0) {
             console.log('⬆️ Moving nested component up');
-            const newOrder = [...siblingComponents];
-            [newOrder[currentIndex], newOrder[currentIndex - 1]] = [newOrder[currentIndex - 1], newOrder[currentIndex]];
-            const componentIds = newOrder.map(c => c.id);
-            console.log('📤 Calling reorderComponents with:', { containerId, containerType, componentIds });
-            await reorderComponents(containerId, containerType, componentIds);
+            const position = { beforeId: siblingComponents[currentIndex - 1].id };
+            console.log('📤 Calling positionComponent with:', { itemId, position });
+            await positionComponent(itemId, position);
           } else if (direction === 'down' && currentIndex < siblingComponents.length - 1) {
             console.log('⬇️ Moving nested component down');
-            const newOrder = [...siblingComponents];
-            [newOrder[currentIndex], newOrder[currentIndex + 1]] = [newOrder[currentIndex + 1], newOrder[currentIndex]];
-            const componentIds = newOrder.map(c => c.id);
-            console.log('📤 Calling reorderComponents with:', { containerId, containerType, componentIds });
-            await reorderComponents(containerId, containerType, componentIds);
+            const position = { afterId: siblingComponents[currentIndex + 1].id };
+            console.log('📤 Calling positionComponent with:', { itemId, position });
+            await positionComponent(itemId, position);
           } else {
             console.log('🚫 Nested component move blocked:', { direction, currentIndex, totalComponents: siblingComponents.length });
           }
@@ -344,7 +395,7 @@ function App() {
       
       console.log(`✅ ${itemType} moved ${direction} successfully`);
       console.log('🔄 Refreshing form data...');
-      await fetchAndSetForm(currentForm.id);
+      await syncForm();
     } catch (err) {
       console.error(`❌ Failed to move ${itemType}:`, err);
       setError(`Failed to move ${itemType}: ${err.message}`);
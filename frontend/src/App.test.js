@@ -7,6 +7,7 @@ import App from './App';
 jest.mock('./services/api', () => ({
   getForm: jest.fn(),
   getAllForms: jest.fn(),
+  subscribeToFormEvents: jest.fn(() => () => {}),
   updateForm: jest.fn(),
   updatePage: jest.fn(),
   updateComponent: jest.fn()
@@ -37,6 +38,7 @@ describe('App Component', () => {
     });
     
     expect(screen.getByText('Form Builder')).toBeInTheDocument();
+    expect(getAllForms).toHaveBeenCalledWith({ size: 1 });
   });
 
   test('displays loading message when no forms available', async () => {
@@ -90,8 +90,8 @@ const AttributePanel = ({ node, onSave }) => {
       </div>
       <div className="form-field">
         <label htmlFor="componentType">Component Type:</label>
-        <input type="text" id="componentType" name="componentType" value={editData.componentType || ''} onChange={handleChange} />
-        {/* Could be a dropdown if types are predefined */}
+        {/* Fixed once created: the server rejects type changes, so it is shown but not editable */}
+        <input type="text" id="componentType" name="componentType" value={editData.componentType || ''} readOnly />
       </div>
       <div className="form-field">
         <label htmlFor="attributes">Attributes (JSON):</label>
@@ -1,9 +1,13 @@
 // Mock implementation for testing
 export const getForm = jest.fn();
 export const getAllForms = jest.fn();
+export const getFormChanges = jest.fn();
+export const getComponentSubtree = jest.fn();
+export const subscribeToFormEvents = jest.fn(() => () => {});
 export const updateForm = jest.fn();
 export const updatePage = jest.fn();
 export const updateComponent = jest.fn();
+export const copyFormWithProgress = jest.fn();
 
 const mockApiClient = {
   get: jest.fn(),
@@ -28,13 +28,71 @@ export const getForm = async (formId) => {
 };
 
 /**
- * Fetches all forms available.
- * @returns {Promise<Array>} A promise that resolves to an array of forms.
+ * Fetches a component with all its nested components in one request.
+ * @param {number} componentId The ID of the component.
+ * @param {number} [maxDepth] How many levels below the component to include; all when omitted.
+ * @returns {Promise<object>} A promise that resolves to the component with its childComponents.
  */
-export const getAllForms = async () => {
+export const getComponentSubtree = async (componentId, maxDepth) => {
   try {
-    const response = await apiClient.get('/forms/');
+    const params = maxDepth != null ? { maxDepth } : {};
+    const response = await apiClient.get(`/components/${componentId}/subtree`, { params });
     return response.data;
+  } catch (error) {
+    console.error(`Error fetching subtree of component ${componentId}:`, error);
+    throw error;
+  }
+};
+
+/**
+ * Fetches the changes made to a form since a given version, to apply them to a copy of the form
+ * already loaded instead of fetching it again.
+ * @param {number} formId The ID of the form.
+ * @param {number} since The version of the copy held by the caller.
+ * @returns {Promise<object>} A promise that resolves to { version, reset, changes }.
+ */
+export const getFormChanges = async (formId, since) => {
+  try {
+    const response = await apiClient.get(`/forms/${formId}/changes`, { params: { since } });
+    return response.data;
+  } catch (error) {
+    console.error(`Error fetching changes of form ${formId}:`, error);
+    throw error;
+  }
+};
+
+/**
+ * Subscribes to the Server-Sent Events stream of a form's changes, made by this or any other
+ * editor. The browser reconnects on its own and resumes after the last event it received.
+ * @param {number} formId The ID of the form.
+ * @param {number} since The version of the copy held by the caller.
+ * @param {object} handlers { onChange(change), onReset() }
+ * @returns {Function} Closes the stream.
+ */
+export const subscribeToFormEvents = (formId, since, { onChange, onReset }) => {
+  if (typeof EventSource === 'undefined') {
+    return () => {};
+  }
+  const source = new EventSource(`${API_BASE_URL}/forms/${formId}/events?since=${since}`);
+  source.addEventListener('change', event => onChange(JSON.parse(event.data)));
+  source.addEventListener('reset', () => onReset());
+  return () => source.close();
+};
+
+/**
+ * Fetches one page of form summaries (id, name, description, counts, lastModified), without
+ * their pages and components. Only the first page is needed to open a form, so callers should ask
+ * for as few as they show; later pages start after the last id of the previous one.
+ * @param {object} [options] { size, after }; the server defaults to 50 summaries from the start.
+ * @returns {Promise<Array>} A promise that resolves to an array of form summaries.
+ */
+export const getAllForms = async ({ size, after } = {}) => {
+  try {
+    const params = {};
+    if (size != null) params.size = size;
+    if (after != null) params.after = after;
+    const response = await apiClient.get('/forms/summaries', { params });
+    return response.data.items;
   } catch (error) {
     console.error('Error fetching all forms:', error);
     throw error;
@@ -162,7 +220,8 @@ export const deleteComponent = async (componentId) => {
 /**
  * Moves a component to a different page or parent component.
  * @param {number} componentId The ID of the component to move.
- * @param {object} moveData The move data { targetPageId?, targetParentComponentId? }.
+ * @param {object} moveData The move data { targetPageId?, targetParentComponentId?, afterId?, beforeId? };
+ *   without afterId/beforeId the component is appended after its new siblings.
  * @returns {Promise<object>} A promise that resolves to the moved component.
  */
 export const moveComponent = async (componentId, moveData) => {
@@ -175,6 +234,38 @@ export const moveComponent = async (componentId, moveData) => {
   }
 };
 
+/**
+ * Moves one page among the pages of its form. Pass exactly one of afterId and beforeId.
+ * @param {number} pageId The ID of the page to move.
+ * @param {object} position { afterId } or { beforeId }, the ID of another page of the same form.
+ * @returns {Promise<object>} A promise that resolves to the moved page.
+ */
+export const positionPage = async (pageId, position) => {
+  try {
+    const response = await apiClient.put(`/pages/${pageId}/position`, position);
+    return response.data;
+  } catch (error) {
+    console.error(`Error positioning page ${pageId}:`, error);
+    throw error;
+  }
+};
+
+/**
+ * Moves one component among its siblings. Pass exactly one of afterId and beforeId.
+ * @param {number} componentId The ID of the component to move.
+ * @param {object} position { afterId } or { beforeId }, the ID of a sibling component.
+ * @returns {Promise<object>} A promise that resolves to the moved component.
+ */
+export const positionComponent = async (componentId, position) => {
+  try {
+    const response = await apiClient.put(`/components/${componentId}/position`, position);
+    return response.data;
+  } catch (error) {
+    console.error(`Error positioning component ${componentId}:`, error);
+    throw error;
+  }
+};
+
 /**
  * Reorders pages within a form.
  * @param {number} formId The ID of the form.
@@ -211,6 +302,53 @@ export const reorderComponents = async (containerId, containerType, componentIds
   }
 };
 
+/**
+ * Deep-copies a form, reporting progress from the server's NDJSON stream. The copy only
+ * succeeded if the stream ends with a "complete" line: the response status is sent before the
+ * copy commits, so an "error" line or a stream that stops early means nothing was copied.
+ * @param {number} formId The ID of the form to copy.
+ * @param {string} [name] The name of the copy; the server picks one when omitted.
+ * @param {Function} [onProgress] Called with (copiedComponents, totalComponents).
+ * @returns {Promise<number>} A promise that resolves to the ID of the new form.
+ */
+export const copyFormWithProgress = async (formId, name, onProgress = () => {}) => {
+  try {
+    const response = await fetch(`${API_BASE_URL}/forms/${formId}/copy`, {
+      method: 'POST',
+      headers: { 'Content-Type': 'application/json', Accept: 'application/x-ndjson' },
+      body: JSON.stringify(name != null ? { name } : {}),
+    });
+    if (!response.ok) {
+      throw new Error(`Copy of form ${formId} failed with status ${response.status}`);
+    }
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffered = '';
+    for (;;) {
+      const { done, value } = await reader.read();
+      buffered += done ? decoder.decode() : decoder.decode(value, { stream: true });
+      const lines = buffered.split('\n');
+      buffered = done ? '' : lines.pop();
+      for (const line of lines.filter(l => l.trim())) {
+        const message = JSON.parse(line);
+        if (message.type === 'progress') {
+          onProgress(message.copiedComponents, message.totalComponents);
+        } else if (message.type === 'complete') {
+          return message.formId;
+        } else if (message.type === 'error') {
+          throw new Error(message.message);
+        }
+      }
+      if (done) {
+        throw new Error(`Copy of form ${formId} ended without completing`);
+      }
+    }
+  } catch (error) {
+    console.error(`Error copying form ${formId}:`, error);
+    throw error;
+  }
+};
+
 // Add other API functions as needed (create, delete for forms, pages, components)
 // For now, focusing on what's needed for the tree view and attribute editing.
 
@@ -0,0 +1,201 @@
+/**
+ * Applies entries of a form's change log (GET /api/forms/{id}/changes) to a form tree loaded
+ * with getForm, so that edits don't require downloading the whole form again.
+ */
+
+// Siblings are ordered by sparse keys; a full reorder spaces them this far apart, like the backend
+const ORDER_GAP = 1024;
+
+// Equal keys fall back to the id, as in the backend's "orderIndex ASC, id ASC"
+const byOrderIndex = (a, b) => (a.orderIndex ?? 0) - (b.orderIndex ?? 0) || a.id - b.id;
+
+const findComponent = (components, id) => {
+  for (const component of components || []) {
+    if (component.id === id) {
+      return component;
+    }
+    const found = findComponent(component.childComponents, id);
+    if (found) {
+      return found;
+    }
+  }
+  return null;
+};
+
+const findComponentInForm = (form, id) => {
+  for (const page of form.pages) {
+    const found = findComponent(page.components, id);
+    if (found) {
+      return found;
+    }
+  }
+  return null;
+};
+
+// Removes the component from wherever it is and returns it, or null if it is not in the form
+const removeComponent = (form, id) => {
+  const removeFrom = (components) => {
+    const index = (components || []).findIndex(c => c.id === id);
+    if (index !== -1) {
+      return components.splice(index, 1)[0];
+    }
+    for (const component of components || []) {
+      const removed = removeFrom(component.childComponents);
+      if (removed) {
+        return removed;
+      }
+    }
+    return null;
+  };
+  for (const page of form.pages) {
+    const removed = removeFrom(page.components);
+    if (removed) {
+      return removed;
+    }
+  }
+  return null;
+};
+
+// The list a component with this page/parent belongs in, or null if that container is unknown
+const containerList = (form, pageId, parentComponentId) => {
+  if (parentComponentId != null) {
+    const parent = findComponentInForm(form, parentComponentId);
+    if (!parent) {
+      return null;
+    }
+    parent.childComponents = parent.childComponents || [];
+    return parent.childComponents;
+  }
+  const page = form.pages.find(p => p.id === pageId);
+  if (!page) {
+    return null;
+  }
+  page.components = page.components || [];
+  return page.components;
+};
+
+const reorder = (list, ids) => {
+  ids.forEach((id, index) => {
+    const item = list.find(i => i.id === id);
+    if (item) {
+      item.orderIndex = index * ORDER_GAP;
+    }
+  });
+  list.sort(byOrderIndex);
+};
+
+const applyChange = (form, { type, data }) => {
+  switch (type) {
+    case 'FORM_UPDATED':
+      form.name = data.name;
+      form.description = data.description;
+      return true;
+    case 'PAGE_CREATED':
+      form.pages = form.pages.filter(p => p.id !== data.page.id);
+      form.pages.push(data.page);
+      form.pages.sort(byOrderIndex);
+      return true;
+    case 'PAGE_UPDATED': {
+      const page = form.pages.find(p => p.id === data.id);
+      if (page) {
+        page.name = data.name;
+        page.orderIndex = data.orderIndex;
+        form.pages.sort(byOrderIndex);
+      }
+      return true;
+    }
+    case 'PAGE_DELETED':
+      form.pages = form.pages.filter(p => p.id !== data.id);
+      return true;
+    case 'PAGES_REORDERED':
+      reorder(form.pages, data.pageIds);
+      return true;
+    case 'COMPONENTS_CREATED': {
+      const list = containerList(form, data.pageId, data.parentComponentId);
+      if (!list) {
+        return false;
+      }
+      data.components.forEach(component => {
+        const existing = list.findIndex(c => c.id === component.id);
+        if (existing !== -1) {
+          list.splice(existing, 1);
+        }
+        list.push(component);
+      });
+      list.sort(byOrderIndex);
+      return true;
+    }
+    case 'COMPONENT_UPDATED': {
+      const component = findComponentInForm(form, data.id);
+      if (component) {
+        component.componentType = data.componentType;
+        component.label = data.label;
+        component.attributes = data.attributes;
+      }
+      return true;
+    }
+    case 'COMPONENT_MOVED': {
+      const component = removeComponent(form, data.id);
+      const list = containerList(form, data.pageId, data.parentComponentId);
+      if (!component || !list) {
+        return false;
+      }
+      if (data.orderIndex != null) {
+        component.orderIndex = data.orderIndex;
+      }
+      list.push(component);
+      list.sort(byOrderIndex);
+      return true;
+    }
+    case 'COMPONENT_DELETED':
+      removeComponent(form, data.id);
+      return true;
+    case 'COMPONENTS_REORDERED': {
+      const list = containerList(form, data.pageId, data.parentComponentId);
+      if (list) {
+        reorder(list, data.componentIds);
+      }
+      return true;
+    }
+    default:
+      return false;
+  }
+};
+
+/**
+ * @param {object} form The form tree to start from; it is not modified.
+ * @param {object} feed The response of getFormChanges.
+ * @returns {object|null} The updated form (carrying the feed's version), or null when the changes
+ * cannot be applied and the form should be fetched again instead.
+ */
+export const applyFormChanges = (form, feed) => {
+  if (!form || !feed || feed.reset) {
+    return null;
+  }
+  const next = JSON.parse(JSON.stringify(form));
+  next.pages = next.pages || [];
+  for (const change of feed.changes) {
+    if (!applyChange(next, change)) {
+      return null;
+    }
+  }
+  next.version = feed.version;
+  return next;
+};
+
+/**
+ * Finds a page or component in a form tree, e.g. to refresh a selection after applying changes.
+ * @returns {object|null}
+ */
+export const findNode = (form, nodeType, id) => {
+  if (!form) {
+    return null;
+  }
+  if (nodeType === 'form') {
+    return form.id === id ? form : null;
+  }
+  if (nodeType === 'page') {
+    return form.pages.find(p => p.id === id) || null;
+  }
+  return findComponentInForm(form, id);
+};
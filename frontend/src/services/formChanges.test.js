@@ -0,0 +1,83 @@
+import { applyFormChanges, findNode } from './formChanges';
+
+const form = {
+  id: 1,
+  name: 'Test Form',
+  version: 3,
+  pages: [
+    {
+      id: 10,
+      name: 'Page',
+      orderIndex: 0,
+      components: [
+        { id: 100, label: 'First', orderIndex: 0, childComponents: [] },
+        {
+          id: 101,
+          label: 'Panel',
+          orderIndex: 1,
+          childComponents: [{ id: 102, label: 'Nested', orderIndex: 0, childComponents: [] }]
+        }
+      ]
+    }
+  ]
+};
+
+describe('applyFormChanges', () => {
+  test('applies updates, creations, moves and deletes without touching the original form', () => {
+    const next = applyFormChanges(form, {
+      version: 7,
+      reset: false,
+      changes: [
+        { seq: 4, type: 'COMPONENT_UPDATED', data: { id: 102, componentType: 'TEXT_INPUT', label: 'Renamed', attributes: '{}' } },
+        { seq: 5, type: 'COMPONENTS_CREATED', data: { pageId: 10, parentComponentId: null, components: [{ id: 103, label: 'New', orderIndex: 2, childComponents: [] }] } },
+        { seq: 6, type: 'COMPONENT_MOVED', data: { id: 102, pageId: 10, parentComponentId: null } },
+        { seq: 7, type: 'COMPONENT_DELETED', data: { id: 100 } }
+      ]
+    });
+
+    expect(next.version).toBe(7);
+    expect(next.pages[0].components.map(c => c.id)).toEqual([102, 101, 103]);
+    expect(findNode(next, 'component', 102).label).toBe('Renamed');
+    expect(form.pages[0].components).toHaveLength(2);
+  });
+
+  test('reorders components by the ids given', () => {
+    const next = applyFormChanges(form, {
+      version: 4,
+      reset: false,
+      changes: [{ seq: 4, type: 'COMPONENTS_REORDERED', data: { pageId: 10, parentComponentId: null, componentIds: [101, 100] } }]
+    });
+
+    expect(next.pages[0].components.map(c => c.id)).toEqual([101, 100]);
+  });
+
+  test('places a single moved component by its new order index', () => {
+    const next = applyFormChanges(form, {
+      version: 4,
+      reset: false,
+      changes: [{ seq: 4, type: 'COMPONENT_MOVED', data: { id: 101, pageId: 10, parentComponentId: null, orderIndex: -512 } }]
+    });
+
+    expect(next.pages[0].components.map(c => c.id)).toEqual([101, 100]);
+  });
+
+  test('orders siblings with equal order index by id, like the backend', () => {
+    const next = applyFormChanges(form, {
+      version: 4,
+      reset: false,
+      changes: [{ seq: 4, type: 'COMPONENT_MOVED', data: { id: 100, pageId: 10, parentComponentId: null, orderIndex: 1 } }]
+    });
+
+    // Appended after 101, but sorted before it
+    expect(next.pages[0].components.map(c => c.id)).toEqual([100, 101]);
+  });
+
+  test('returns null when the form has to be reloaded', () => {
+    expect(applyFormChanges(form, { version: 9, reset: true, changes: [] })).toBeNull();
+    expect(applyFormChanges(form, {
+      version: 4,
+      reset: false,
+      changes: [{ seq: 4, type: 'COMPONENTS_CREATED', data: { pageId: 99, parentComponentId: null, components: [] } }]
+    })).toBeNull();
+  });
+});